@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterable;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterable} implementation based on {@link MemorySegment}.
+ * <p>
+ * The iterable reads items of the given layout from the segment without copying them into the heap,
+ * trailing bytes that do not form a whole item are ignored. The segment has to be alive while the
+ * iterable is used, an access to a segment of a closed arena throws {@link IllegalStateException}.
+ *
+ * @see ByteIteratorOfMemorySegment
+ */
+public final class ByteIterableOfMemorySegment implements ByteIterable {
+    private final MemorySegment segment;
+    private final ValueLayout.OfByte layout;
+
+    /**
+     * Ctor. Items are read with the {@link ValueLayout#JAVA_BYTE} layout.
+     *
+     * @param segment the segment
+     * @throws NullPointerException if {@code segment} is null
+     */
+    public ByteIterableOfMemorySegment(final MemorySegment segment) {
+        this(segment, ValueLayout.JAVA_BYTE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param segment the segment
+     * @param layout  the layout of items, defines the byte order and the alignment
+     * @throws NullPointerException if {@code segment} or {@code layout} is null
+     */
+    public ByteIterableOfMemorySegment(final MemorySegment segment, final ValueLayout.OfByte layout) {
+        this.segment = Objects.requireNonNull(segment, "segment is null");
+        this.layout = Objects.requireNonNull(layout, "layout is null");
+    }
+
+    @Override
+    public ByteIterator byteIterator() {
+        return new ByteIteratorOfMemorySegment(this.segment, this.layout);
+    }
+
+    @Override
+    public long size() {
+        return this.segment.byteSize() / this.layout.byteSize();
+    }
+
+    @Override
+    public void forEachByte(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final MemorySegment segment = this.segment;
+        final ValueLayout.OfByte layout = this.layout;
+        final long itemBytes = layout.byteSize();
+        final long endOffset = segment.byteSize() / itemBytes * itemBytes;
+        for (long offset = 0L; offset < endOffset; offset += itemBytes) {
+            action.accept(segment.get(layout, offset));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjfi.FloatConsumer;
+import com.plugatar.mjpi.FloatIterator;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link FloatIterator} implementation based on {@link MemorySegment}.
+ * <p>
+ * The iterator reads items of the given layout from the segment without copying them into the heap,
+ * trailing bytes that do not form a whole item are ignored. A part of the segment can be iterated over
+ * a {@link MemorySegment#asSlice(long, long)} result. The segment has to be alive while the iterator
+ * is used, an access to a segment of a closed arena throws {@link IllegalStateException}.
+ */
+public final class FloatIteratorOfMemorySegment implements FloatIterator {
+    private final MemorySegment segment;
+    private final ValueLayout.OfFloat layout;
+    private final long itemBytes;
+    private final long endOffset;
+    private long offset;
+
+    /**
+     * Ctor. Items are read with the {@link ValueLayout#JAVA_FLOAT_UNALIGNED} layout.
+     *
+     * @param segment the segment
+     * @throws NullPointerException if {@code segment} is null
+     */
+    public FloatIteratorOfMemorySegment(final MemorySegment segment) {
+        this(segment, ValueLayout.JAVA_FLOAT_UNALIGNED);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param segment the segment
+     * @param layout  the layout of items, defines the byte order and the alignment
+     * @throws NullPointerException if {@code segment} or {@code layout} is null
+     */
+    public FloatIteratorOfMemorySegment(final MemorySegment segment, final ValueLayout.OfFloat layout) {
+        this.segment = Objects.requireNonNull(segment, "segment is null");
+        this.layout = Objects.requireNonNull(layout, "layout is null");
+        this.itemBytes = layout.byteSize();
+        this.endOffset = segment.byteSize() / this.itemBytes * this.itemBytes;
+        this.offset = 0L;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.offset < this.endOffset;
+    }
+
+    @Override
+    public float next() {
+        if (this.offset < this.endOffset) {
+            final float item = this.segment.get(this.layout, this.offset);
+            this.offset += this.itemBytes;
+            return item;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final MemorySegment segment = this.segment;
+        final ValueLayout.OfFloat layout = this.layout;
+        final long itemBytes = this.itemBytes;
+        final long endOffset = this.endOffset;
+        long offset = this.offset;
+        this.offset = endOffset;
+        for (; offset < endOffset; offset += itemBytes) {
+            action.accept(segment.get(layout, offset));
+        }
+    }
+
+    @Override
+    public int next(final float[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final int count = (int) Math.min(length, this.remaining());
+        MemorySegment.copy(this.segment, this.layout, this.offset, array, offset, count);
+        this.offset += count * this.itemBytes;
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final long count = Math.min(n, this.remaining());
+        this.offset += count * this.itemBytes;
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return (this.endOffset - this.offset) / this.itemBytes;
+    }
+
+    @Override
+    public boolean tryAdvance(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.offset < this.endOffset) {
+            action.accept(this.segment.get(this.layout, this.offset));
+            this.offset += this.itemBytes;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Iterators and Iterables implementations based on {@link java.lang.foreign.MemorySegment}.
+ *
+ * <br><table>
+ * <caption>List of implementations</caption>
+ * <tr><th> </th><th> Implementation </th><th> Interface </th><th> Based on </th></tr>
+ *
+ * <tr><td> byte </td><td> {@link com.plugatar.mjpi.foreign.ByteIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.ByteIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> short </td><td> {@link com.plugatar.mjpi.foreign.ShortIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.ShortIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> int </td><td> {@link com.plugatar.mjpi.foreign.IntIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.IntIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> long </td><td> {@link com.plugatar.mjpi.foreign.LongIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.LongIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> float </td><td> {@link com.plugatar.mjpi.foreign.FloatIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.FloatIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> double </td><td> {@link com.plugatar.mjpi.foreign.DoubleIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.DoubleIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> char </td><td> {@link com.plugatar.mjpi.foreign.CharIteratorOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.foreign.CharIterableOfMemorySegment} </td><td>
+ * {@link com.plugatar.mjpi.CharIterable} </td><td> {@link java.lang.foreign.MemorySegment} </td></tr>
+ * </table>
+ */
+package com.plugatar.mjpi.foreign;
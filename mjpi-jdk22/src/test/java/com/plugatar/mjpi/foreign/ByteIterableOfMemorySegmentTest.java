@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.ByteIterable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIterableOfMemorySegment}.
+ */
+final class ByteIterableOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new ByteIterableOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIterableOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegmentMultipleTimes() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(1 * 3);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 0L, (byte) 1);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 1L, (byte) 2);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 2L, (byte) 3);
+            final ByteIterable iterable = new ByteIterableOfMemorySegment(segment);
+            assertThat(iterable.size())
+                    .isEqualTo(3L);
+            for (int i = 0; i < 2; ++i) {
+                final List<Byte> items = new ArrayList<>();
+                iterable.byteIterator().forEachRemaining(items::add);
+                assertThat(items)
+                        .containsExactly((byte) 1, (byte) 2, (byte) 3);
+            }
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final ByteIterable iterable = new ByteIterableOfMemorySegment(MemorySegment.ofArray(new byte[]{(byte) 1}));
+        assertThatCode(() -> iterable.forEachByte(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateOverSlice() {
+        final MemorySegment segment = MemorySegment.ofArray(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4});
+        final List<Byte> items = new ArrayList<>();
+        new ByteIterableOfMemorySegment(segment.asSlice(1, 1 * 2), ValueLayout.JAVA_BYTE)
+                .forEachByte(items::add);
+        assertThat(items)
+                .containsExactly((byte) 2, (byte) 3);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOfMemorySegment}.
+ */
+final class ByteIteratorOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new ByteIteratorOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIteratorOfMemorySegment(null, ValueLayout.JAVA_BYTE))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIteratorOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(1 * 3);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 0L, (byte) 1);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 1L, (byte) 2);
+            segment.setAtIndex(ValueLayout.JAVA_BYTE, 2L, (byte) 3);
+            final ByteIterator iterator = new ByteIteratorOfMemorySegment(segment);
+            assertThat(iterator.remaining())
+                    .isEqualTo(3L);
+            final List<Byte> items = new ArrayList<>();
+            while (iterator.hasNext()) {
+                items.add(iterator.next());
+            }
+            assertThat(items)
+                    .containsExactly((byte) 1, (byte) 2, (byte) 3);
+            assertThatCode(() -> iterator.next())
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void iterateWithLayoutByteOrder() {
+        final ValueLayout.OfByte layout = ValueLayout.JAVA_BYTE.withOrder(ByteOrder.BIG_ENDIAN);
+        final MemorySegment segment = MemorySegment.ofArray(new byte[1 * 2]);
+        segment.setAtIndex(layout, 0L, (byte) 1);
+        segment.setAtIndex(layout, 1L, (byte) 2);
+        final List<Byte> items = new ArrayList<>();
+        new ByteIteratorOfMemorySegment(segment, layout).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfMemorySegment(
+                MemorySegment.ofArray(new byte[]{(byte) 1, (byte) 2, (byte) 3}),
+                ValueLayout.JAVA_BYTE
+        );
+        final byte[] array = new byte[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], (byte) 1, (byte) 2, (byte) 3);
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfMemorySegment(
+                MemorySegment.ofArray(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4}),
+                ValueLayout.JAVA_BYTE
+        );
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly((byte) 3, (byte) 4);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void nextMethodThrowsISEForClosedArena() {
+        final Arena arena = Arena.ofConfined();
+        final ByteIterator iterator = new ByteIteratorOfMemorySegment(arena.allocate(1));
+        arena.close();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
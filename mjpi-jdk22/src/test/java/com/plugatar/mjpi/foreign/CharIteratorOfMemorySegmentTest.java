@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorOfMemorySegment}.
+ */
+final class CharIteratorOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new CharIteratorOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfMemorySegment(null, ValueLayout.JAVA_CHAR_UNALIGNED))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(2 * 3 + 1);
+            segment.setAtIndex(ValueLayout.JAVA_CHAR_UNALIGNED, 0L, '1');
+            segment.setAtIndex(ValueLayout.JAVA_CHAR_UNALIGNED, 1L, '2');
+            segment.setAtIndex(ValueLayout.JAVA_CHAR_UNALIGNED, 2L, '3');
+            final CharIterator iterator = new CharIteratorOfMemorySegment(segment);
+            assertThat(iterator.remaining())
+                    .isEqualTo(3L);
+            final List<Character> items = new ArrayList<>();
+            while (iterator.hasNext()) {
+                items.add(iterator.next());
+            }
+            assertThat(items)
+                    .containsExactly('1', '2', '3');
+            assertThatCode(() -> iterator.next())
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void iterateWithLayoutByteOrder() {
+        final ValueLayout.OfChar layout = ValueLayout.JAVA_CHAR_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+        final MemorySegment segment = MemorySegment.ofArray(new byte[2 * 2]);
+        segment.setAtIndex(layout, 0L, '1');
+        segment.setAtIndex(layout, 1L, '2');
+        final List<Character> items = new ArrayList<>();
+        new CharIteratorOfMemorySegment(segment, layout).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('1', '2');
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfMemorySegment(
+                MemorySegment.ofArray(new char[]{'1', '2', '3'}),
+                ValueLayout.JAVA_CHAR_UNALIGNED
+        );
+        final char[] array = new char[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], '1', '2', '3');
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfMemorySegment(
+                MemorySegment.ofArray(new char[]{'1', '2', '3', '4'}),
+                ValueLayout.JAVA_CHAR_UNALIGNED
+        );
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly('3', '4');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void nextMethodThrowsISEForClosedArena() {
+        final Arena arena = Arena.ofConfined();
+        final CharIterator iterator = new CharIteratorOfMemorySegment(arena.allocate(2));
+        arena.close();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.DoubleIterable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIterableOfMemorySegment}.
+ */
+final class DoubleIterableOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new DoubleIterableOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegmentMultipleTimes() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(8 * 3 + 1);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 0L, 1.0);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 1L, 2.0);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 2L, 3.0);
+            final DoubleIterable iterable = new DoubleIterableOfMemorySegment(segment);
+            assertThat(iterable.size())
+                    .isEqualTo(3L);
+            for (int i = 0; i < 2; ++i) {
+                final List<Double> items = new ArrayList<>();
+                iterable.doubleIterator().forEachRemaining(items::add);
+                assertThat(items)
+                        .containsExactly(1.0, 2.0, 3.0);
+            }
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final DoubleIterable iterable = new DoubleIterableOfMemorySegment(MemorySegment.ofArray(new double[]{1.0}));
+        assertThatCode(() -> iterable.forEachDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateOverSlice() {
+        final MemorySegment segment = MemorySegment.ofArray(new double[]{1.0, 2.0, 3.0, 4.0});
+        final List<Double> items = new ArrayList<>();
+        new DoubleIterableOfMemorySegment(segment.asSlice(8, 8 * 2), ValueLayout.JAVA_DOUBLE_UNALIGNED)
+                .forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(2.0, 3.0);
+    }
+}
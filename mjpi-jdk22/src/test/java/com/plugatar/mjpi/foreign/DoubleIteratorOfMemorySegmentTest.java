@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIteratorOfMemorySegment}.
+ */
+final class DoubleIteratorOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new DoubleIteratorOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfMemorySegment(null, ValueLayout.JAVA_DOUBLE_UNALIGNED))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegment() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(8 * 3 + 1);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 0L, 1.0);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 1L, 2.0);
+            segment.setAtIndex(ValueLayout.JAVA_DOUBLE_UNALIGNED, 2L, 3.0);
+            final DoubleIterator iterator = new DoubleIteratorOfMemorySegment(segment);
+            assertThat(iterator.remaining())
+                    .isEqualTo(3L);
+            final List<Double> items = new ArrayList<>();
+            while (iterator.hasNext()) {
+                items.add(iterator.next());
+            }
+            assertThat(items)
+                    .containsExactly(1.0, 2.0, 3.0);
+            assertThatCode(() -> iterator.next())
+                    .isInstanceOf(NoSuchElementException.class);
+        }
+    }
+
+    @Test
+    void iterateWithLayoutByteOrder() {
+        final ValueLayout.OfDouble layout = ValueLayout.JAVA_DOUBLE_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+        final MemorySegment segment = MemorySegment.ofArray(new byte[8 * 2]);
+        segment.setAtIndex(layout, 0L, 1.0);
+        segment.setAtIndex(layout, 1L, 2.0);
+        final List<Double> items = new ArrayList<>();
+        new DoubleIteratorOfMemorySegment(segment, layout).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfMemorySegment(
+                MemorySegment.ofArray(new double[]{1.0, 2.0, 3.0}),
+                ValueLayout.JAVA_DOUBLE_UNALIGNED
+        );
+        final double[] array = new double[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], 1.0, 2.0, 3.0);
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfMemorySegment(
+                MemorySegment.ofArray(new double[]{1.0, 2.0, 3.0, 4.0}),
+                ValueLayout.JAVA_DOUBLE_UNALIGNED
+        );
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        final List<Double> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(3.0, 4.0);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void nextMethodThrowsISEForClosedArena() {
+        final Arena arena = Arena.ofConfined();
+        final DoubleIterator iterator = new DoubleIteratorOfMemorySegment(arena.allocate(8));
+        arena.close();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.foreign;
+
+import com.plugatar.mjpi.ShortIterable;
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIterableOfMemorySegment}.
+ */
+final class ShortIterableOfMemorySegmentTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new ShortIterableOfMemorySegment(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfMemorySegment(MemorySegment.NULL, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverNativeSegmentMultipleTimes() {
+        try (Arena arena = Arena.ofConfined()) {
+            final MemorySegment segment = arena.allocate(2 * 3 + 1);
+            segment.setAtIndex(ValueLayout.JAVA_SHORT_UNALIGNED, 0L, (short) 1);
+            segment.setAtIndex(ValueLayout.JAVA_SHORT_UNALIGNED, 1L, (short) 2);
+            segment.setAtIndex(ValueLayout.JAVA_SHORT_UNALIGNED, 2L, (short) 3);
+            final ShortIterable iterable = new ShortIterableOfMemorySegment(segment);
+            assertThat(iterable.size())
+                    .isEqualTo(3L);
+            for (int i = 0; i < 2; ++i) {
+                final List<Short> items = new ArrayList<>();
+                iterable.shortIterator().forEachRemaining(items::add);
+                assertThat(items)
+                        .containsExactly((short) 1, (short) 2, (short) 3);
+            }
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final ShortIterable iterable = new ShortIterableOfMemorySegment(MemorySegment.ofArray(new short[]{(short) 1}));
+        assertThatCode(() -> iterable.forEachShort(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateOverSlice() {
+        final MemorySegment segment = MemorySegment.ofArray(new short[]{(short) 1, (short) 2, (short) 3, (short) 4});
+        final List<Short> items = new ArrayList<>();
+        new ShortIterableOfMemorySegment(segment.asSlice(2, 2 * 2), ValueLayout.JAVA_SHORT_UNALIGNED)
+                .forEachShort(items::add);
+        assertThat(items)
+                .containsExactly((short) 2, (short) 3);
+    }
+}
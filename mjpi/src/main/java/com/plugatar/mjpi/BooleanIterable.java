@@ -36,6 +36,26 @@ public interface BooleanIterable {
      */
     BooleanIterator booleanIterator();
 
+    /**
+     * Returns the number of elements or {@code -1} if this number is unknown.
+     *
+     * @return the number of elements or {@code -1}
+     * @see #isSizeKnown()
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if the number of elements is known.
+     *
+     * @return {@code true} if the number of elements is known
+     * @see #size()
+     */
+    default boolean isSizeKnown() {
+        return this.size() >= 0L;
+    }
+
     /**
      * Performs the given action for each element of the {@code BooleanIterable}
      * until all elements have been processed or the action throws an
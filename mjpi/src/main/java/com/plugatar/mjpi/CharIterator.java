@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.CharConsumer;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An Iterator specialized for {@code char} values.
+ *
+ * @see java.util.Iterator
+ * @see CharIterable
+ */
+public interface CharIterator {
+
+    /**
+     * Returns {@code true} if the iteration has more elements.
+     *
+     * @return {@code true} if the iteration has more elements
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element in the iteration
+     * @throws NoSuchElementException if the iteration has no more elements
+     */
+    char next();
+
+    /**
+     * Removes from the underlying collection the last element returned
+     * by this iterator (optional operation). This method can be called
+     * only once per call to {@link #next}.
+     *
+     * @throws UnsupportedOperationException if the {@code remove}
+     *                                       operation is not supported by this iterator
+     * @throws IllegalStateException         if the {@code next} method has not yet been called,
+     *                                       or the {@code remove} method has already been called
+     *                                       after the last call to the {@code next} method
+     */
+    default void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Copies up to {@code length} remaining elements to the given array starting
+     * at the {@code offset} position and returns the number of copied elements.
+     * The returned value is less than {@code length} only if the iteration
+     * has no more elements.
+     *
+     * @param array  the destination array
+     * @param offset the start position in the destination array
+     * @param length the maximum number of elements to copy
+     * @return the number of copied elements
+     * @throws NullPointerException      if {@code array} is null
+     * @throws IndexOutOfBoundsException if {@code offset} or {@code length} is negative
+     *                                   or {@code offset + length} is greater than {@code array.length}
+     */
+    default int next(final char[] array, final int offset, final int length) {
+        Objects.requireNonNull(array);
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        int count = 0;
+        while (count < length && this.hasNext()) {
+            array[offset + count++] = this.next();
+        }
+        return count;
+    }
+
+    /**
+     * Skips up to {@code n} remaining elements and returns the number of skipped
+     * elements. The returned value is less than {@code n} only if the iteration
+     * has no more elements.
+     *
+     * @param n the maximum number of elements to skip
+     * @return the number of skipped elements
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    default long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        long count = 0L;
+        while (count < n && this.hasNext()) {
+            this.next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of remaining elements in the iteration
+     * or {@code -1} if this number is unknown.
+     *
+     * @return the number of remaining elements or {@code -1}
+     */
+    default long remaining() {
+        return -1L;
+    }
+
+    /**
+     * If a remaining element exists, performs the given action on it and returns
+     * {@code true}, else returns {@code false}. Exceptions thrown by the action
+     * are relayed to the caller.
+     *
+     * @param action the action to be performed for the next element
+     * @return {@code false} if the iteration has no more elements, else {@code true}
+     * @throws NullPointerException if {@code action} is null
+     */
+    default boolean tryAdvance(final CharConsumer action) {
+        Objects.requireNonNull(action);
+        if (this.hasNext()) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining element until all elements
+     * have been processed or the action throws an exception. Exceptions thrown
+     * by the action are relayed to the caller.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is null
+     */
+    default void forEachRemaining(final CharConsumer action) {
+        Objects.requireNonNull(action);
+        while (this.hasNext()) {
+            action.accept(this.next());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An Iterable specialized for {@code double} values.
+ *
+ * @see Iterable
+ * @see DoubleIterator
+ */
+public interface DoubleIterable {
+
+    /**
+     * Returns an DoubleIterator over elements.
+     *
+     * @return an DoubleIterator
+     */
+    DoubleIterator doubleIterator();
+
+    /**
+     * Creates a {@link Spliterator.OfDouble} over elements. The default implementation
+     * creates a spliterator over the {@link #doubleIterator()} result that reports
+     * {@link Spliterator#SIZED} if the number of remaining elements is known.
+     *
+     * @return a Spliterator.OfDouble
+     */
+    default Spliterator.OfDouble spliterator() {
+        final DoubleIterator iterator = this.doubleIterator();
+        final long remaining = iterator.remaining();
+        return new Spliterators.AbstractDoubleSpliterator(
+                remaining < 0L ? Long.MAX_VALUE : remaining,
+                remaining < 0L ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED) {
+            @Override
+            public boolean tryAdvance(final DoubleConsumer action) {
+                return iterator.tryAdvance(action);
+            }
+
+            @Override
+            public void forEachRemaining(final DoubleConsumer action) {
+                iterator.forEachRemaining(action);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over elements.
+     *
+     * @return a sequential DoubleStream
+     */
+    default DoubleStream stream() {
+        return StreamSupport.doubleStream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link DoubleStream} over elements.
+     *
+     * @return a possibly parallel DoubleStream
+     */
+    default DoubleStream parallelStream() {
+        return StreamSupport.doubleStream(this.spliterator(), true);
+    }
+
+    /**
+     * Returns the number of elements or {@code -1} if this number is unknown.
+     *
+     * @return the number of elements or {@code -1}
+     * @see #isSizeKnown()
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if the number of elements is known.
+     *
+     * @return {@code true} if the number of elements is known
+     * @see #size()
+     */
+    default boolean isSizeKnown() {
+        return this.size() >= 0L;
+    }
+
+    /**
+     * Performs the given action for each element of the {@code DoubleIterable}
+     * until all elements have been processed or the action throws an
+     * exception. Exceptions thrown by the action are relayed to the
+     * caller.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is null
+     */
+    default void forEachDouble(final DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        final DoubleIterator iterator = this.doubleIterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+}
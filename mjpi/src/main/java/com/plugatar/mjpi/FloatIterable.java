@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.FloatConsumer;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An Iterable specialized for {@code float} values.
+ *
+ * @see Iterable
+ * @see FloatIterator
+ */
+public interface FloatIterable {
+
+    /**
+     * Returns an FloatIterator over elements.
+     *
+     * @return an FloatIterator
+     */
+    FloatIterator floatIterator();
+
+    /**
+     * Creates a {@link Spliterator.OfDouble} over elements widened to {@code double}.
+     * The default implementation creates a spliterator over the {@link #floatIterator()}
+     * result that reports {@link Spliterator#SIZED} if the number of remaining elements is known.
+     *
+     * @return a Spliterator.OfDouble
+     */
+    default Spliterator.OfDouble doubleSpliterator() {
+        final FloatIterator iterator = this.floatIterator();
+        final long remaining = iterator.remaining();
+        return new Spliterators.AbstractDoubleSpliterator(
+                remaining < 0L ? Long.MAX_VALUE : remaining,
+                remaining < 0L ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED) {
+            @Override
+            public boolean tryAdvance(final DoubleConsumer action) {
+                Objects.requireNonNull(action);
+                return iterator.tryAdvance(action::accept);
+            }
+
+            @Override
+            public void forEachRemaining(final DoubleConsumer action) {
+                Objects.requireNonNull(action);
+                iterator.forEachRemaining(action::accept);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over elements widened to {@code double}.
+     *
+     * @return a sequential DoubleStream
+     */
+    default DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(this.doubleSpliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link DoubleStream} over elements widened to {@code double}.
+     *
+     * @return a possibly parallel DoubleStream
+     */
+    default DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(this.doubleSpliterator(), true);
+    }
+
+    /**
+     * Returns the number of elements or {@code -1} if this number is unknown.
+     *
+     * @return the number of elements or {@code -1}
+     * @see #isSizeKnown()
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if the number of elements is known.
+     *
+     * @return {@code true} if the number of elements is known
+     * @see #size()
+     */
+    default boolean isSizeKnown() {
+        return this.size() >= 0L;
+    }
+
+    /**
+     * Performs the given action for each element of the {@code FloatIterable}
+     * until all elements have been processed or the action throws an
+     * exception. Exceptions thrown by the action are relayed to the
+     * caller.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is null
+     */
+    default void forEachFloat(final FloatConsumer action) {
+        Objects.requireNonNull(action);
+        final FloatIterator iterator = this.floatIterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+}
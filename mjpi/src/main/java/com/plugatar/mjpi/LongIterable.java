@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An Iterable specialized for {@code long} values.
+ *
+ * @see Iterable
+ * @see LongIterator
+ */
+public interface LongIterable {
+
+    /**
+     * Returns an LongIterator over elements.
+     *
+     * @return an LongIterator
+     */
+    LongIterator longIterator();
+
+    /**
+     * Creates a {@link Spliterator.OfLong} over elements. The default implementation
+     * creates a spliterator over the {@link #longIterator()} result that reports
+     * {@link Spliterator#SIZED} if the number of remaining elements is known.
+     *
+     * @return a Spliterator.OfLong
+     */
+    default Spliterator.OfLong spliterator() {
+        final LongIterator iterator = this.longIterator();
+        final long remaining = iterator.remaining();
+        return new Spliterators.AbstractLongSpliterator(
+                remaining < 0L ? Long.MAX_VALUE : remaining,
+                remaining < 0L ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED) {
+            @Override
+            public boolean tryAdvance(final LongConsumer action) {
+                return iterator.tryAdvance(action);
+            }
+
+            @Override
+            public void forEachRemaining(final LongConsumer action) {
+                iterator.forEachRemaining(action);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over elements.
+     *
+     * @return a sequential LongStream
+     */
+    default LongStream stream() {
+        return StreamSupport.longStream(this.spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link LongStream} over elements.
+     *
+     * @return a possibly parallel LongStream
+     */
+    default LongStream parallelStream() {
+        return StreamSupport.longStream(this.spliterator(), true);
+    }
+
+    /**
+     * Returns the number of elements or {@code -1} if this number is unknown.
+     *
+     * @return the number of elements or {@code -1}
+     * @see #isSizeKnown()
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if the number of elements is known.
+     *
+     * @return {@code true} if the number of elements is known
+     * @see #size()
+     */
+    default boolean isSizeKnown() {
+        return this.size() >= 0L;
+    }
+
+    /**
+     * Performs the given action for each element of the {@code LongIterable}
+     * until all elements have been processed or the action throws an
+     * exception. Exceptions thrown by the action are relayed to the
+     * caller.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is null
+     */
+    default void forEachLong(final LongConsumer action) {
+        Objects.requireNonNull(action);
+        final LongIterator iterator = this.longIterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+}
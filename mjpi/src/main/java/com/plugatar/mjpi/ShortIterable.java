@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.ShortConsumer;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An Iterable specialized for {@code short} values.
+ *
+ * @see Iterable
+ * @see ShortIterator
+ */
+public interface ShortIterable {
+
+    /**
+     * Returns an ShortIterator over elements.
+     *
+     * @return an ShortIterator
+     */
+    ShortIterator shortIterator();
+
+    /**
+     * Creates a {@link Spliterator.OfInt} over elements widened to {@code int}.
+     * The default implementation creates a spliterator over the {@link #shortIterator()}
+     * result that reports {@link Spliterator#SIZED} if the number of remaining elements is known.
+     *
+     * @return a Spliterator.OfInt
+     */
+    default Spliterator.OfInt intSpliterator() {
+        final ShortIterator iterator = this.shortIterator();
+        final long remaining = iterator.remaining();
+        return new Spliterators.AbstractIntSpliterator(
+                remaining < 0L ? Long.MAX_VALUE : remaining,
+                remaining < 0L ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED) {
+            @Override
+            public boolean tryAdvance(final IntConsumer action) {
+                Objects.requireNonNull(action);
+                return iterator.tryAdvance(action::accept);
+            }
+
+            @Override
+            public void forEachRemaining(final IntConsumer action) {
+                Objects.requireNonNull(action);
+                iterator.forEachRemaining(action::accept);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over elements widened to {@code int}.
+     *
+     * @return a sequential IntStream
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(this.intSpliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link IntStream} over elements widened to {@code int}.
+     *
+     * @return a possibly parallel IntStream
+     */
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(this.intSpliterator(), true);
+    }
+
+    /**
+     * Returns the number of elements or {@code -1} if this number is unknown.
+     *
+     * @return the number of elements or {@code -1}
+     * @see #isSizeKnown()
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Returns {@code true} if the number of elements is known.
+     *
+     * @return {@code true} if the number of elements is known
+     * @see #size()
+     */
+    default boolean isSizeKnown() {
+        return this.size() >= 0L;
+    }
+
+    /**
+     * Performs the given action for each element of the {@code ShortIterable}
+     * until all elements have been processed or the action throws an
+     * exception. Exceptions thrown by the action are relayed to the
+     * caller.
+     *
+     * @param action the action to be performed for each element
+     * @throws NullPointerException if {@code action} is null
+     */
+    default void forEachShort(final ShortConsumer action) {
+        Objects.requireNonNull(action);
+        final ShortIterator iterator = this.shortIterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.next());
+        }
+    }
+}
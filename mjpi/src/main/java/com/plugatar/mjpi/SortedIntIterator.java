@@ -15,31 +15,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.plugatar.mjpi.impl;
-
-import com.plugatar.mjpi.IntIterable;
-import com.plugatar.mjpi.IntIterator;
-
-import java.util.Objects;
+package com.plugatar.mjpi;
 
 /**
- * The {@link IntIterable} implementation based on {@code int} array.
+ * An {@link IntIterator} over elements in strictly ascending order that can skip elements
+ * less than a target without returning them.
+ *
+ * @see IntIterator
  */
-public final class IntIterableOf implements IntIterable {
-    private final int[] items;
+public interface SortedIntIterator extends IntIterator {
 
     /**
-     * Ctor.
+     * Skips elements less than the given target. After this call the next element
+     * in the iteration, if any, is greater than or equal to the target. Elements
+     * greater than or equal to the target are not skipped.
      *
-     * @param items the array
-     * @throws NullPointerException if {@code items} is null
+     * @param target the target
+     * @return {@code true} if the iteration has more elements
      */
-    public IntIterableOf(final int... items) {
-        this.items = Objects.requireNonNull(items, "items is null");
-    }
-
-    @Override
-    public IntIterator intIterator() {
-        return new IntIteratorOf(this.items);
-    }
+    boolean advanceTo(int target);
 }
@@ -15,31 +15,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.plugatar.mjpi.impl;
-
-import com.plugatar.mjpi.CharIterable;
-import com.plugatar.mjpi.CharIterator;
-
-import java.util.Objects;
+package com.plugatar.mjpi;
 
 /**
- * The {@link CharIterable} implementation based on {@code char} array.
+ * An {@link LongIterator} over elements in strictly ascending order that can skip elements
+ * less than a target without returning them.
+ *
+ * @see LongIterator
  */
-public final class CharIterableOf implements CharIterable {
-    private final char[] items;
+public interface SortedLongIterator extends LongIterator {
 
     /**
-     * Ctor.
+     * Skips elements less than the given target. After this call the next element
+     * in the iteration, if any, is greater than or equal to the target. Elements
+     * greater than or equal to the target are not skipped.
      *
-     * @param items the array
-     * @throws NullPointerException if {@code items} is null
+     * @param target the target
+     * @return {@code true} if the iteration has more elements
      */
-    public CharIterableOf(final char... items) {
-        this.items = Objects.requireNonNull(items, "items is null");
-    }
-
-    @Override
-    public CharIterator charIterator() {
-        return new CharIteratorOf(this.items);
-    }
+    boolean advanceTo(long target);
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.BooleanConsumer;
+import com.plugatar.mjpi.BooleanIterable;
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.Objects;
+
+/**
+ * The {@link BooleanIterable} implementation based on {@code long} array of bits.
+ * <p>
+ * The bit with index {@code n} is {@code (words[n / 64] & (1L << (n % 64))) != 0}, the same layout as
+ * {@link java.util.BitSet#toLongArray()} uses. Takes 1 bit per item instead of 1 byte per item of
+ * {@link BooleanIterableOf}.
+ */
+public final class BooleanIterableOfBits implements BooleanIterable {
+    private final long[] words;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * Ctor.
+     *
+     * @param words the words of bits
+     * @throws NullPointerException     if {@code words} is null
+     * @throws IllegalArgumentException if the number of bits is greater than {@code Integer.MAX_VALUE}
+     */
+    public BooleanIterableOfBits(final long... words) {
+        this(words, 0, BooleanIteratorOfBits.bitsLength(words));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param words     the words of bits
+     * @param fromIndex the index of the first bit to iterate, inclusive
+     * @param toIndex   the index of the last bit to iterate, exclusive
+     * @throws NullPointerException      if {@code words} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code words.length * 64} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public BooleanIterableOfBits(final long[] words, final int fromIndex, final int toIndex) {
+        BooleanIteratorOfBits.checkRange(words, fromIndex, toIndex);
+        this.words = words;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    public BooleanIterator booleanIterator() {
+        return new BooleanIteratorOfBits(this.words, this.fromIndex, this.toIndex);
+    }
+
+    /**
+     * Returns an IntIterator over indexes of set bits.
+     *
+     * @return an IntIterator over indexes of set bits
+     * @see IntIteratorOfSetBits
+     */
+    public IntIterator setBitsIterator() {
+        return new IntIteratorOfSetBits(this.words, this.fromIndex, this.toIndex);
+    }
+
+    @Override
+    public long size() {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    public void forEachBoolean(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.booleanIterator().forEachRemaining(action);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.BooleanConsumer;
+import com.plugatar.mjpi.BooleanIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link BooleanIterator} implementation based on {@code long} array of bits.
+ * <p>
+ * The bit with index {@code n} is {@code (words[n / 64] & (1L << (n % 64))) != 0}, the same layout as
+ * {@link java.util.BitSet#toLongArray()} uses. Bulk methods read one word per 64 items.
+ */
+public final class BooleanIteratorOfBits implements BooleanIterator {
+    private final long[] words;
+    private final int toIndex;
+    private int pointer;
+
+    /**
+     * Ctor.
+     *
+     * @param words words of bits to iterate
+     * @throws NullPointerException     if {@code words} is null
+     * @throws IllegalArgumentException if the number of bits is greater than {@code Integer.MAX_VALUE}
+     */
+    public BooleanIteratorOfBits(final long... words) {
+        this(words, 0, bitsLength(words));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param words     words of bits to iterate
+     * @param fromIndex the index of the first bit to iterate, inclusive
+     * @param toIndex   the index of the last bit to iterate, exclusive
+     * @throws NullPointerException      if {@code words} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code words.length * 64} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public BooleanIteratorOfBits(final long[] words, final int fromIndex, final int toIndex) {
+        checkRange(words, fromIndex, toIndex);
+        this.words = words;
+        this.toIndex = toIndex;
+        this.pointer = fromIndex;
+    }
+
+    static int bitsLength(final long[] words) {
+        Objects.requireNonNull(words, "words is null");
+        if (words.length > Integer.MAX_VALUE / 64) {
+            throw new IllegalArgumentException("bits length is greater than Integer.MAX_VALUE");
+        }
+        return words.length * 64;
+    }
+
+    static void checkRange(final long[] words, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(words, "words is null");
+        if (fromIndex < 0 || toIndex > words.length * 64L || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", bits length: " + words.length * 64L);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.toIndex;
+    }
+
+    @Override
+    public boolean next() {
+        final int pointer = this.pointer;
+        if (pointer < this.toIndex) {
+            this.pointer = pointer + 1;
+            return (this.words[pointer >>> 6] & (1L << pointer)) != 0L;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final long[] words = this.words;
+        final int toIndex = this.toIndex;
+        int index = this.pointer;
+        this.pointer = toIndex;
+        while (index < toIndex) {
+            final int end = Math.min(toIndex, (index | 63) + 1);
+            long word = words[index >>> 6] >>> index;
+            for (; index < end; ++index) {
+                action.accept((word & 1L) != 0L);
+                word >>>= 1;
+            }
+        }
+    }
+
+    @Override
+    public int next(final boolean[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final long[] words = this.words;
+        final int count = Math.min(length, this.toIndex - this.pointer);
+        final int toIndex = this.pointer + count;
+        int index = this.pointer;
+        int arrayIndex = offset;
+        this.pointer = toIndex;
+        while (index < toIndex) {
+            final int end = Math.min(toIndex, (index | 63) + 1);
+            long word = words[index >>> 6] >>> index;
+            for (; index < end; ++index) {
+                array[arrayIndex++] = (word & 1L) != 0L;
+                word >>>= 1;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final int count = (int) Math.min(n, this.toIndex - this.pointer);
+        this.pointer += count;
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return this.toIndex - this.pointer;
+    }
+
+    @Override
+    public boolean tryAdvance(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.toIndex) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
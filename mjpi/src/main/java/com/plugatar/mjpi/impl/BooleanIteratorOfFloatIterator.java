@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.BooleanConsumer;
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.FloatIterator;
+
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+
+/**
+ * The {@link BooleanIterator} implementation based on {@link FloatIterator}.
+ * Items are converted to {@code true} if not equal to zero or by the given conversion
+ * function.
+ */
+public final class BooleanIteratorOfFloatIterator implements BooleanIterator {
+    private static final int BUFFER_SIZE = 256;
+    private final FloatIterator origin;
+    private final DoublePredicate conversionFunction;
+    private float[] buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin iterator
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public BooleanIteratorOfFloatIterator(final FloatIterator origin) {
+        this.origin = Objects.requireNonNull(origin, "origin is null");
+        this.conversionFunction = null;
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin             the origin iterator
+     * @param conversionFunction the function to convert {@code float}-valued items to {@code boolean}
+     *                           (arguments are widened to {@code double})
+     * @throws NullPointerException if {@code origin} or {@code conversionFunction} is null
+     */
+    public BooleanIteratorOfFloatIterator(final FloatIterator origin,
+                                          final DoublePredicate conversionFunction) {
+        this.origin = Objects.requireNonNull(origin, "origin is null");
+        this.conversionFunction = Objects.requireNonNull(conversionFunction, "conversionFunction is null");
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public boolean next() {
+        return this.convert(this.origin.next());
+    }
+
+    @Override
+    public void remove() {
+        this.origin.remove();
+    }
+
+    @Override
+    public int next(final boolean[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        if (this.buffer == null) {
+            this.buffer = new float[BUFFER_SIZE];
+        }
+        final float[] buffer = this.buffer;
+        int count = 0;
+        while (count < length) {
+            final int chunk = Math.min(buffer.length, length - count);
+            final int copied = this.origin.next(buffer, 0, chunk);
+            for (int index = 0; index < copied; ++index) {
+                array[offset + count + index] = this.convert(buffer[index]);
+            }
+            count += copied;
+            if (copied < chunk) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        return this.origin.skip(n);
+    }
+
+    @Override
+    public long remaining() {
+        return this.origin.remaining();
+    }
+
+    @Override
+    public boolean tryAdvance(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.convert(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.origin.forEachRemaining(item -> action.accept(this.convert(item)));
+    }
+
+    private boolean convert(final float item) {
+        return this.conversionFunction == null ? item != 0 : this.conversionFunction.test(item);
+    }
+}
@@ -65,4 +65,14 @@ public final class BooleanIteratorOfIterator<T> implements BooleanIterator {
     public void forEachRemaining(final BooleanConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.test(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final BooleanConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.test(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
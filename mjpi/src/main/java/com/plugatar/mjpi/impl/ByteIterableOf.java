@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterable;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+/**
+ * The {@link ByteIterable} implementation based on {@code byte} array.
+ */
+public final class ByteIterableOf implements ByteIterable {
+    private final byte[] items;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array
+     * @throws NullPointerException if {@code items} is null
+     */
+    public ByteIterableOf(final byte... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public ByteIterableOf(final byte[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        this.items = items;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    public ByteIterator byteIterator() {
+        return new ByteIteratorOf(this.items, this.fromIndex, this.toIndex);
+    }
+
+    @Override
+    public long size() {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    public void forEachByte(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final byte[] items = this.items;
+        final int toIndex = this.toIndex;
+        for (int index = this.fromIndex; index < toIndex; ++index) {
+            action.accept(items[index]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt intSpliterator() {
+        return new IntSpliteratorOfByteArray(this.items, this.fromIndex, this.toIndex);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterable;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterable} implementation based on {@link ByteBuffer}.
+ * <p>
+ * The iterable reads items between the position and the limit that the buffer has at the moment of
+ * construction without copying them, the position of the given buffer is not changed.
+ */
+public final class ByteIterableOfBuffer implements ByteIterable {
+    private final ByteBuffer buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param buffer the buffer
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public ByteIterableOfBuffer(final ByteBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null").duplicate();
+    }
+
+    @Override
+    public ByteIterator byteIterator() {
+        return new ByteIteratorOfBuffer(this.buffer);
+    }
+
+    @Override
+    public long size() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void forEachByte(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final ByteBuffer buffer = this.buffer;
+        for (int index = buffer.position(), limit = buffer.limit(); index < limit; ++index) {
+            action.accept(buffer.get(index));
+        }
+    }
+}
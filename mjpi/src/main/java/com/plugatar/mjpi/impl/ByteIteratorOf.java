@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterator} implementation based on {@code byte} array.
+ */
+public final class ByteIteratorOf implements ByteIterator {
+    private final byte[] items;
+    private final int toIndex;
+    private int pointer;
+
+    /**
+     * Ctor.
+     *
+     * @param items items to iterate
+     * @throws NullPointerException if {@code items} is null
+     */
+    public ByteIteratorOf(final byte... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     items to iterate
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public ByteIteratorOf(final byte[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        this.items = items;
+        this.toIndex = toIndex;
+        this.pointer = fromIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.toIndex;
+    }
+
+    @Override
+    public byte next() {
+        if (this.hasNext()) {
+            return this.items[this.pointer++];
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final byte[] items = this.items;
+        final int toIndex = this.toIndex;
+        int index = this.pointer;
+        this.pointer = toIndex;
+        for (; index < toIndex; ++index) {
+            action.accept(items[index]);
+        }
+    }
+
+    @Override
+    public int next(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final int count = Math.min(length, this.toIndex - this.pointer);
+        System.arraycopy(this.items, this.pointer, array, offset, count);
+        this.pointer += count;
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final int count = (int) Math.min(n, this.toIndex - this.pointer);
+        this.pointer += count;
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return this.toIndex - this.pointer;
+    }
+
+    @Override
+    public boolean tryAdvance(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.toIndex) {
+            action.accept(this.items[this.pointer++]);
+            return true;
+        }
+        return false;
+    }
+}
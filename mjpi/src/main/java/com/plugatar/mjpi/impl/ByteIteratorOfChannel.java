@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterator} implementation based on {@link ReadableByteChannel}.
+ * <p>
+ * The iterator reads the channel by chunks into the internal reusable buffer, {@link #forEachRemaining(ByteConsumer)}
+ * and {@link #next(byte[], int, int)} process whole chunks at once. The channel is expected to be in blocking mode.
+ * The iterator doesn't close the channel. {@link IOException}s are rethrown as {@link UncheckedIOException}s.
+ */
+public final class ByteIteratorOfChannel implements ByteIterator {
+    /**
+     * The default buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfStream;
+
+    /**
+     * Ctor.
+     *
+     * @param channel the channel
+     * @throws NullPointerException if {@code channel} is null
+     */
+    public ByteIteratorOfChannel(final ReadableByteChannel channel) {
+        this(channel, ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param channel the channel
+     * @param buffer  the buffer for chunks, heap or direct, its content is overwritten
+     * @throws NullPointerException     if {@code channel} or {@code buffer} is null
+     * @throws IllegalArgumentException if {@code buffer} capacity is zero
+     */
+    public ByteIteratorOfChannel(final ReadableByteChannel channel, final ByteBuffer buffer) {
+        this.channel = Objects.requireNonNull(channel, "channel is null");
+        Objects.requireNonNull(buffer, "buffer is null");
+        if (buffer.capacity() == 0) {
+            throw new IllegalArgumentException("buffer capacity is zero");
+        }
+        this.buffer = buffer;
+        ((Buffer) buffer).clear();
+        ((Buffer) buffer).flip();
+        this.endOfStream = false;
+    }
+
+    private boolean fill() {
+        final ByteBuffer buffer = this.buffer;
+        while (!buffer.hasRemaining() && !this.endOfStream) {
+            ((Buffer) buffer).clear();
+            final int count = this.read(buffer);
+            ((Buffer) buffer).flip();
+            if (count < 0) {
+                this.endOfStream = true;
+            }
+        }
+        return buffer.hasRemaining();
+    }
+
+    private int read(final ByteBuffer target) {
+        try {
+            return this.channel.read(target);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.fill();
+    }
+
+    @Override
+    public byte next() {
+        if (this.fill()) {
+            return this.buffer.get();
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final ByteBuffer buffer = this.buffer;
+        while (this.fill()) {
+            final int limit = buffer.limit();
+            int index = buffer.position();
+            ((Buffer) buffer).position(limit);
+            for (; index < limit; ++index) {
+                action.accept(buffer.get(index));
+            }
+        }
+    }
+
+    @Override
+    public int next(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final ByteBuffer buffer = this.buffer;
+        int copied = 0;
+        while (copied < length) {
+            if (buffer.hasRemaining()) {
+                final int count = Math.min(length - copied, buffer.remaining());
+                buffer.get(array, offset + copied, count);
+                copied += count;
+            } else if (this.endOfStream) {
+                break;
+            } else if (length - copied >= buffer.capacity()) {
+                final int count = this.read(ByteBuffer.wrap(array, offset + copied, length - copied));
+                if (count < 0) {
+                    this.endOfStream = true;
+                } else {
+                    copied += count;
+                }
+            } else {
+                this.fill();
+            }
+        }
+        return copied;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final ByteBuffer buffer = this.buffer;
+        long skipped = 0L;
+        while (skipped < n && this.fill()) {
+            final int count = (int) Math.min(n - skipped, buffer.remaining());
+            ((Buffer) buffer).position(buffer.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean tryAdvance(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.fill()) {
+            action.accept(this.buffer.get());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterator} implementation based on {@link InputStream}.
+ * <p>
+ * The iterator reads the stream by chunks into the internal reusable buffer, {@link #forEachRemaining(ByteConsumer)}
+ * and {@link #next(byte[], int, int)} process whole chunks at once. The iterator doesn't close the stream.
+ * {@link IOException}s are rethrown as {@link UncheckedIOException}s.
+ */
+public final class ByteIteratorOfInputStream implements ByteIterator {
+    /**
+     * The default buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private final InputStream stream;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+
+    /**
+     * Ctor.
+     *
+     * @param stream the stream
+     * @throws NullPointerException if {@code stream} is null
+     */
+    public ByteIteratorOfInputStream(final InputStream stream) {
+        this(stream, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param stream     the stream
+     * @param bufferSize the buffer size
+     * @throws NullPointerException     if {@code stream} is null
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public ByteIteratorOfInputStream(final InputStream stream, final int bufferSize) {
+        this.stream = Objects.requireNonNull(stream, "stream is null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize is not positive");
+        }
+        this.buffer = new byte[bufferSize];
+        this.position = 0;
+        this.limit = 0;
+        this.endOfStream = false;
+    }
+
+    private boolean fill() {
+        while (this.position == this.limit && !this.endOfStream) {
+            final int count = this.read(this.buffer, 0, this.buffer.length);
+            if (count < 0) {
+                this.endOfStream = true;
+            } else {
+                this.position = 0;
+                this.limit = count;
+            }
+        }
+        return this.position < this.limit;
+    }
+
+    private int read(final byte[] array, final int offset, final int length) {
+        try {
+            return this.stream.read(array, offset, length);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.fill();
+    }
+
+    @Override
+    public byte next() {
+        if (this.fill()) {
+            return this.buffer[this.position++];
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final byte[] buffer = this.buffer;
+        while (this.fill()) {
+            final int limit = this.limit;
+            int index = this.position;
+            this.position = limit;
+            for (; index < limit; ++index) {
+                action.accept(buffer[index]);
+            }
+        }
+    }
+
+    @Override
+    public int next(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        int copied = 0;
+        while (copied < length) {
+            if (this.position < this.limit) {
+                final int count = Math.min(length - copied, this.limit - this.position);
+                System.arraycopy(this.buffer, this.position, array, offset + copied, count);
+                this.position += count;
+                copied += count;
+            } else if (this.endOfStream) {
+                break;
+            } else if (length - copied >= this.buffer.length) {
+                final int count = this.read(array, offset + copied, length - copied);
+                if (count < 0) {
+                    this.endOfStream = true;
+                } else {
+                    copied += count;
+                }
+            } else {
+                this.fill();
+            }
+        }
+        return copied;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        long skipped = 0L;
+        while (skipped < n && this.fill()) {
+            final int count = (int) Math.min(n - skipped, this.limit - this.position);
+            this.position += count;
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean tryAdvance(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.fill()) {
+            action.accept(this.buffer[this.position++]);
+            return true;
+        }
+        return false;
+    }
+}
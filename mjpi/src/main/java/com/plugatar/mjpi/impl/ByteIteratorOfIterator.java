@@ -65,4 +65,14 @@ public final class ByteIteratorOfIterator<T> implements ByteIterator {
     public void forEachRemaining(final ByteConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsByte(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsByte(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
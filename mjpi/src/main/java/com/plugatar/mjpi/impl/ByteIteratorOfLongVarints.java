@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.LongIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterator} implementation that encodes items of {@link LongIterator} as unsigned or zigzag
+ * LEB128 varints.
+ * <p>
+ * A varint consists of 1 to 10 bytes, 7 bits per byte starting from the least significant bits, the most
+ * significant bit of a byte is set if more bytes follow. Zigzag encoding maps signed values to unsigned ones
+ * so that values of small magnitude have short varints: {@code 0, -1, 1, -2} are encoded as {@code 0, 1, 2, 3}.
+ *
+ * @see LongIteratorOfVarints
+ * @see LongIteratorOfVarintArray
+ * @see LongIteratorOfVarintBuffer
+ */
+public final class ByteIteratorOfLongVarints implements ByteIterator {
+    private final LongIterator origin;
+    private final boolean zigzag;
+    private final byte[] pending;
+    private int pendingPointer;
+    private int pendingLength;
+
+    /**
+     * Ctor. Items are encoded as unsigned.
+     *
+     * @param origin the origin iterator
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public ByteIteratorOfLongVarints(final LongIterator origin) {
+        this(origin, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin iterator
+     * @param zigzag {@code true} if items are signed values to zigzag encode
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public ByteIteratorOfLongVarints(final LongIterator origin, final boolean zigzag) {
+        this.origin = Objects.requireNonNull(origin, "origin is null");
+        this.zigzag = zigzag;
+        this.pending = new byte[10];
+        this.pendingPointer = 0;
+        this.pendingLength = 0;
+    }
+
+    private long unsigned(final long item) {
+        return this.zigzag ? (item << 1) ^ (item >> 63) : item;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pendingPointer < this.pendingLength || this.origin.hasNext();
+    }
+
+    @Override
+    public byte next() {
+        if (this.pendingPointer == this.pendingLength) {
+            if (!this.origin.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long value = this.unsigned(this.origin.next());
+            final byte[] pending = this.pending;
+            int length = 0;
+            while ((value & ~0x7FL) != 0) {
+                pending[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            pending[length++] = (byte) value;
+            this.pendingPointer = 0;
+            this.pendingLength = length;
+        }
+        return this.pending[this.pendingPointer++];
+    }
+
+    @Override
+    public void forEachRemaining(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        while (this.pendingPointer < this.pendingLength) {
+            action.accept(this.pending[this.pendingPointer++]);
+        }
+        this.origin.forEachRemaining(item -> {
+            long value = this.unsigned(item);
+            while ((value & ~0x7FL) != 0) {
+                action.accept((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            action.accept((byte) value);
+        });
+    }
+}
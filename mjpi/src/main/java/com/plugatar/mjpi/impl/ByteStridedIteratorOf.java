@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.ByteIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link ByteIterator} implementation based on {@code byte} array that visits every {@code step}-th item
+ * of the given range.
+ * <p>
+ * A positive {@code step} starts from the first item of the range and moves forward, a negative {@code step}
+ * starts from the last item of the range and moves backward. For example, one field of records packed by 3
+ * items into an array and the array in descending order:
+ * <pre>{@code
+ * ByteIterator thirdFields = new ByteStridedIteratorOf(items, 2, items.length, 3);
+ * ByteIterator descending = new ByteStridedIteratorOf(items, -1);
+ * }</pre>
+ */
+public final class ByteStridedIteratorOf implements ByteIterator {
+    private final byte[] items;
+    private final int step;
+    private int pointer;
+    private int remaining;
+
+    /**
+     * Ctor.
+     *
+     * @param items items to iterate
+     * @param step  the distance between the indexes of adjacent items
+     * @throws NullPointerException     if {@code items} is null
+     * @throws IllegalArgumentException if {@code step} is zero
+     */
+    public ByteStridedIteratorOf(final byte[] items, final int step) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length, step);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     items to iterate
+     * @param fromIndex the index of the first item of the range, inclusive
+     * @param toIndex   the index of the last item of the range, exclusive
+     * @param step      the distance between the indexes of adjacent items
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public ByteStridedIteratorOf(final byte[] items, final int fromIndex, final int toIndex, final int step) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        if (step == 0) {
+            throw new IllegalArgumentException("step is zero");
+        }
+        this.items = items;
+        this.step = step;
+        this.pointer = step > 0 ? fromIndex : toIndex - 1;
+        this.remaining = stridedCount(toIndex - fromIndex, step);
+    }
+
+    /**
+     * Returns the number of items of the range visited with the given step.
+     *
+     * @param rangeLength the range length
+     * @param step        the step
+     * @return the number of items
+     */
+    static int stridedCount(final int rangeLength, final int step) {
+        return rangeLength == 0 ? 0 : (int) ((rangeLength - 1) / Math.abs((long) step) + 1L);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.remaining > 0;
+    }
+
+    @Override
+    public byte next() {
+        if (this.remaining > 0) {
+            final byte item = this.items[this.pointer];
+            this.pointer += this.step;
+            --this.remaining;
+            return item;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final byte[] items = this.items;
+        final int step = this.step;
+        int index = this.pointer;
+        int count = this.remaining;
+        this.remaining = 0;
+        while (count-- > 0) {
+            action.accept(items[index]);
+            index += step;
+        }
+        this.pointer = index;
+    }
+
+    @Override
+    public int next(final byte[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final byte[] items = this.items;
+        final int step = this.step;
+        final int count = Math.min(length, this.remaining);
+        int index = this.pointer;
+        for (int arrayIndex = offset, end = offset + count; arrayIndex < end; ++arrayIndex) {
+            array[arrayIndex] = items[index];
+            index += step;
+        }
+        this.pointer = index;
+        this.remaining -= count;
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final int count = (int) Math.min(n, this.remaining);
+        this.pointer = (int) (this.pointer + (long) count * this.step);
+        this.remaining -= count;
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return this.remaining;
+    }
+
+    @Override
+    public boolean tryAdvance(final ByteConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.remaining > 0) {
+            action.accept(this.items[this.pointer]);
+            this.pointer += this.step;
+            --this.remaining;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.CharConsumer;
+import com.plugatar.mjpi.CharIterable;
+import com.plugatar.mjpi.CharIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * The {@link CharIterable} implementation based on {@link CharBuffer}.
+ * <p>
+ * The iterable reads items between the position and the limit that the buffer has at the moment of
+ * construction without copying them, the position of the given buffer is not changed.
+ */
+public final class CharIterableOfBuffer implements CharIterable {
+    private final CharBuffer buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param buffer the buffer
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public CharIterableOfBuffer(final CharBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null").duplicate();
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the byte order of the buffer.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public CharIterableOfBuffer(final ByteBuffer buffer) {
+        this(buffer, Objects.requireNonNull(buffer, "buffer is null").order());
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the given byte order.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @param order  the byte order
+     * @throws NullPointerException if {@code buffer} or {@code order} is null
+     */
+    public CharIterableOfBuffer(final ByteBuffer buffer, final ByteOrder order) {
+        this(Objects.requireNonNull(buffer, "buffer is null").duplicate()
+                .order(Objects.requireNonNull(order, "order is null")).asCharBuffer());
+    }
+
+    @Override
+    public CharIterator charIterator() {
+        return new CharIteratorOfBuffer(this.buffer);
+    }
+
+    @Override
+    public long size() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void forEachChar(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final CharBuffer buffer = this.buffer;
+        for (int index = buffer.position(), limit = buffer.limit(); index < limit; ++index) {
+            action.accept(buffer.get(index));
+        }
+    }
+}
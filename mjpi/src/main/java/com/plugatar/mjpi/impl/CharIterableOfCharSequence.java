@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.CharConsumer;
+import com.plugatar.mjpi.CharIterable;
+import com.plugatar.mjpi.CharIterator;
+
+import java.util.Objects;
+
+/**
+ * The {@link CharIterable} implementation based on {@link CharSequence}.
+ * <p>
+ * The iterable reads chars of the sequence by index without copying the sequence into an array. The iterated
+ * range is defined at the moment of construction.
+ *
+ * @see CharIteratorOfCharSequence
+ */
+public final class CharIterableOfCharSequence implements CharIterable {
+    private final CharSequence sequence;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * Ctor.
+     *
+     * @param sequence the sequence
+     * @throws NullPointerException if {@code sequence} is null
+     */
+    public CharIterableOfCharSequence(final CharSequence sequence) {
+        this(sequence, 0, Objects.requireNonNull(sequence, "sequence is null").length());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param sequence  the sequence
+     * @param fromIndex the index of the first char to iterate, inclusive
+     * @param toIndex   the index of the last char to iterate, exclusive
+     * @throws NullPointerException      if {@code sequence} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code sequence.length()} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public CharIterableOfCharSequence(final CharSequence sequence, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(sequence, "sequence is null");
+        final int length = sequence.length();
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", sequence length: " + length);
+        }
+        this.sequence = sequence;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    public CharIterator charIterator() {
+        return new CharIteratorOfCharSequence(this.sequence, this.fromIndex, this.toIndex);
+    }
+
+    @Override
+    public long size() {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    public void forEachChar(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final CharSequence sequence = this.sequence;
+        final int toIndex = this.toIndex;
+        for (int index = this.fromIndex; index < toIndex; ++index) {
+            action.accept(sequence.charAt(index));
+        }
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.CharConsumer;
+import com.plugatar.mjpi.CharIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link CharIterator} implementation based on {@link CharSequence}.
+ * <p>
+ * The iterator reads chars of the sequence by index without copying the sequence into an array. The iterated
+ * range is defined at the moment of construction, changes of a mutable sequence inside the range are visible
+ * to the iterator. {@link #next(char[], int, int)} uses the bulk {@code getChars} method of {@link String},
+ * {@link StringBuilder} and {@link StringBuffer}.
+ */
+public final class CharIteratorOfCharSequence implements CharIterator {
+    private final CharSequence sequence;
+    private final int toIndex;
+    private int pointer;
+
+    /**
+     * Ctor.
+     *
+     * @param sequence the sequence
+     * @throws NullPointerException if {@code sequence} is null
+     */
+    public CharIteratorOfCharSequence(final CharSequence sequence) {
+        this(sequence, 0, Objects.requireNonNull(sequence, "sequence is null").length());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param sequence  the sequence
+     * @param fromIndex the index of the first char to iterate, inclusive
+     * @param toIndex   the index of the last char to iterate, exclusive
+     * @throws NullPointerException      if {@code sequence} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code sequence.length()} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public CharIteratorOfCharSequence(final CharSequence sequence, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(sequence, "sequence is null");
+        final int length = sequence.length();
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", sequence length: " + length);
+        }
+        this.sequence = sequence;
+        this.toIndex = toIndex;
+        this.pointer = fromIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.toIndex;
+    }
+
+    @Override
+    public char next() {
+        if (this.hasNext()) {
+            return this.sequence.charAt(this.pointer++);
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final CharSequence sequence = this.sequence;
+        final int toIndex = this.toIndex;
+        int index = this.pointer;
+        this.pointer = toIndex;
+        for (; index < toIndex; ++index) {
+            action.accept(sequence.charAt(index));
+        }
+    }
+
+    @Override
+    public int next(final char[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final CharSequence sequence = this.sequence;
+        final int from = this.pointer;
+        final int count = Math.min(length, this.toIndex - from);
+        final int to = from + count;
+        if (sequence instanceof String) {
+            ((String) sequence).getChars(from, to, array, offset);
+        } else if (sequence instanceof StringBuilder) {
+            ((StringBuilder) sequence).getChars(from, to, array, offset);
+        } else if (sequence instanceof StringBuffer) {
+            ((StringBuffer) sequence).getChars(from, to, array, offset);
+        } else {
+            for (int index = from, arrayIndex = offset; index < to; ++index, ++arrayIndex) {
+                array[arrayIndex] = sequence.charAt(index);
+            }
+        }
+        this.pointer = to;
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final int count = (int) Math.min(n, this.toIndex - this.pointer);
+        this.pointer += count;
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return this.toIndex - this.pointer;
+    }
+
+    @Override
+    public boolean tryAdvance(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.toIndex) {
+            action.accept(this.sequence.charAt(this.pointer++));
+            return true;
+        }
+        return false;
+    }
+}
@@ -65,4 +65,14 @@ public final class CharIteratorOfIterator<T> implements CharIterator {
     public void forEachRemaining(final CharConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsChar(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsChar(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.CharConsumer;
+import com.plugatar.mjpi.CharIterator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link CharIterator} implementation based on {@link Reader}.
+ * <p>
+ * The iterator reads the reader by chunks into the internal reusable buffer, {@link #forEachRemaining(CharConsumer)}
+ * and {@link #next(char[], int, int)} process whole chunks at once. The iterator doesn't close the reader.
+ * {@link IOException}s are rethrown as {@link UncheckedIOException}s.
+ */
+public final class CharIteratorOfReader implements CharIterator {
+    /**
+     * The default buffer size.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfReader;
+
+    /**
+     * Ctor.
+     *
+     * @param reader the reader
+     * @throws NullPointerException if {@code reader} is null
+     */
+    public CharIteratorOfReader(final Reader reader) {
+        this(reader, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param reader     the reader
+     * @param bufferSize the buffer size
+     * @throws NullPointerException     if {@code reader} is null
+     * @throws IllegalArgumentException if {@code bufferSize} is not positive
+     */
+    public CharIteratorOfReader(final Reader reader, final int bufferSize) {
+        this.reader = Objects.requireNonNull(reader, "reader is null");
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize is not positive");
+        }
+        this.buffer = new char[bufferSize];
+        this.position = 0;
+        this.limit = 0;
+        this.endOfReader = false;
+    }
+
+    private boolean fill() {
+        while (this.position == this.limit && !this.endOfReader) {
+            final int count = this.read(this.buffer, 0, this.buffer.length);
+            if (count < 0) {
+                this.endOfReader = true;
+            } else {
+                this.position = 0;
+                this.limit = count;
+            }
+        }
+        return this.position < this.limit;
+    }
+
+    private int read(final char[] array, final int offset, final int length) {
+        try {
+            return this.reader.read(array, offset, length);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.fill();
+    }
+
+    @Override
+    public char next() {
+        if (this.fill()) {
+            return this.buffer[this.position++];
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final char[] buffer = this.buffer;
+        while (this.fill()) {
+            final int limit = this.limit;
+            int index = this.position;
+            this.position = limit;
+            for (; index < limit; ++index) {
+                action.accept(buffer[index]);
+            }
+        }
+    }
+
+    @Override
+    public int next(final char[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        int copied = 0;
+        while (copied < length) {
+            if (this.position < this.limit) {
+                final int count = Math.min(length - copied, this.limit - this.position);
+                System.arraycopy(this.buffer, this.position, array, offset + copied, count);
+                this.position += count;
+                copied += count;
+            } else if (this.endOfReader) {
+                break;
+            } else if (length - copied >= this.buffer.length) {
+                final int count = this.read(array, offset + copied, length - copied);
+                if (count < 0) {
+                    this.endOfReader = true;
+                } else {
+                    copied += count;
+                }
+            } else {
+                this.fill();
+            }
+        }
+        return copied;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        long skipped = 0L;
+        while (skipped < n && this.fill()) {
+            final int count = (int) Math.min(n - skipped, this.limit - this.position);
+            this.position += count;
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean tryAdvance(final CharConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.fill()) {
+            action.accept(this.buffer[this.position++]);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterator} implementation of Unicode code points based on {@link CharIterator}.
+ * <p>
+ * Surrogate pairs are joined into supplementary code points, unpaired surrogates are returned as they are,
+ * the same way as {@link String#codePoints()} does. Chars below {@link Character#MIN_SURROGATE}, including
+ * all ASCII and Latin-1 chars, are returned after a single comparison without surrogate checks.
+ * {@link #forEachRemaining(IntConsumer)} reads the origin iterator by chunks.
+ */
+public final class CodePointIteratorOfCharIterator implements IntIterator {
+    private static final int BUFFER_SIZE = 256;
+    private final CharIterator origin;
+    private boolean hasPending;
+    private char pending;
+    private char[] buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin iterator of chars
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public CodePointIteratorOfCharIterator(final CharIterator origin) {
+        this.origin = Objects.requireNonNull(origin, "origin is null");
+        this.hasPending = false;
+        this.pending = 0;
+        this.buffer = null;
+    }
+
+    private char nextChar() {
+        if (this.hasPending) {
+            this.hasPending = false;
+            return this.pending;
+        }
+        return this.origin.next();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasPending || this.origin.hasNext();
+    }
+
+    @Override
+    public int next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final char high = this.nextChar();
+        if (high < Character.MIN_SURROGATE || !Character.isHighSurrogate(high) || !this.origin.hasNext()) {
+            return high;
+        }
+        final char low = this.origin.next();
+        if (Character.isLowSurrogate(low)) {
+            return Character.toCodePoint(high, low);
+        }
+        this.pending = low;
+        this.hasPending = true;
+        return high;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        int high = -1;
+        if (this.hasPending) {
+            this.hasPending = false;
+            final char item = this.pending;
+            if (Character.isHighSurrogate(item)) {
+                high = item;
+            } else {
+                action.accept(item);
+            }
+        }
+        if (this.buffer == null) {
+            this.buffer = new char[BUFFER_SIZE];
+        }
+        final char[] buffer = this.buffer;
+        int count;
+        while ((count = this.origin.next(buffer, 0, buffer.length)) > 0) {
+            for (int index = 0; index < count; ++index) {
+                final char item = buffer[index];
+                if (high < 0 && item < Character.MIN_SURROGATE) {
+                    action.accept(item);
+                } else if (high >= 0 && Character.isLowSurrogate(item)) {
+                    action.accept(Character.toCodePoint((char) high, item));
+                    high = -1;
+                } else {
+                    if (high >= 0) {
+                        action.accept(high);
+                        high = -1;
+                    }
+                    if (Character.isHighSurrogate(item)) {
+                        high = item;
+                    } else {
+                        action.accept(item);
+                    }
+                }
+            }
+        }
+        if (high >= 0) {
+            action.accept(high);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.hasNext()) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
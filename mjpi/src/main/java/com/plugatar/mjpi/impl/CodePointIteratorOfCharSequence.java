@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterator} implementation of Unicode code points based on {@link CharSequence}.
+ * <p>
+ * Surrogate pairs are joined into supplementary code points, unpaired surrogates are returned as they are,
+ * the same way as {@link String#codePoints()} does. Chars below {@link Character#MIN_SURROGATE}, including
+ * all ASCII and Latin-1 chars, are returned after a single comparison without surrogate checks.
+ * The iterated range is defined at the moment of construction.
+ */
+public final class CodePointIteratorOfCharSequence implements IntIterator {
+    private final CharSequence sequence;
+    private final int toIndex;
+    private int pointer;
+
+    /**
+     * Ctor.
+     *
+     * @param sequence the sequence
+     * @throws NullPointerException if {@code sequence} is null
+     */
+    public CodePointIteratorOfCharSequence(final CharSequence sequence) {
+        this(sequence, 0, Objects.requireNonNull(sequence, "sequence is null").length());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param sequence  the sequence
+     * @param fromIndex the index of the first char to iterate, inclusive
+     * @param toIndex   the index of the last char to iterate, exclusive
+     * @throws NullPointerException      if {@code sequence} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code sequence.length()} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public CodePointIteratorOfCharSequence(final CharSequence sequence, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(sequence, "sequence is null");
+        final int length = sequence.length();
+        if (fromIndex < 0 || toIndex > length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", sequence length: " + length);
+        }
+        this.sequence = sequence;
+        this.toIndex = toIndex;
+        this.pointer = fromIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.toIndex;
+    }
+
+    @Override
+    public int next() {
+        if (this.pointer >= this.toIndex) {
+            throw new NoSuchElementException();
+        }
+        final char high = this.sequence.charAt(this.pointer++);
+        if (high >= Character.MIN_SURROGATE && Character.isHighSurrogate(high) && this.pointer < this.toIndex) {
+            final char low = this.sequence.charAt(this.pointer);
+            if (Character.isLowSurrogate(low)) {
+                ++this.pointer;
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return high;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final CharSequence sequence = this.sequence;
+        final int toIndex = this.toIndex;
+        int index = this.pointer;
+        this.pointer = toIndex;
+        while (index < toIndex) {
+            final char item = sequence.charAt(index++);
+            if (item < Character.MIN_SURROGATE) {
+                action.accept(item);
+            } else if (Character.isHighSurrogate(item) && index < toIndex
+                    && Character.isLowSurrogate(sequence.charAt(index))) {
+                action.accept(Character.toCodePoint(item, sequence.charAt(index++)));
+            } else {
+                action.accept(item);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.toIndex) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
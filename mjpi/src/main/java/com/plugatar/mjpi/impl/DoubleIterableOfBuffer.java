@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterable;
+import com.plugatar.mjpi.DoubleIterator;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@link DoubleIterable} implementation based on {@link DoubleBuffer}.
+ * <p>
+ * The iterable reads items between the position and the limit that the buffer has at the moment of
+ * construction without copying them, the position of the given buffer is not changed.
+ */
+public final class DoubleIterableOfBuffer implements DoubleIterable {
+    private final DoubleBuffer buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param buffer the buffer
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public DoubleIterableOfBuffer(final DoubleBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null").duplicate();
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the byte order of the buffer.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public DoubleIterableOfBuffer(final ByteBuffer buffer) {
+        this(buffer, Objects.requireNonNull(buffer, "buffer is null").order());
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the given byte order.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @param order  the byte order
+     * @throws NullPointerException if {@code buffer} or {@code order} is null
+     */
+    public DoubleIterableOfBuffer(final ByteBuffer buffer, final ByteOrder order) {
+        this(Objects.requireNonNull(buffer, "buffer is null").duplicate()
+                .order(Objects.requireNonNull(order, "order is null")).asDoubleBuffer());
+    }
+
+    @Override
+    public DoubleIterator doubleIterator() {
+        return new DoubleIteratorOfBuffer(this.buffer);
+    }
+
+    @Override
+    public long size() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void forEachDouble(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final DoubleBuffer buffer = this.buffer;
+        for (int index = buffer.position(), limit = buffer.limit(); index < limit; ++index) {
+            action.accept(buffer.get(index));
+        }
+    }
+}
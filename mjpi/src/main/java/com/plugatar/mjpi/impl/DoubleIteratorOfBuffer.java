@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterator;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@link DoubleIterator} implementation based on {@link DoubleBuffer}.
+ * <p>
+ * The iterator reads items between the position and the limit that the buffer has at the moment of
+ * construction without copying them, the position of the given buffer is not changed.
+ */
+public final class DoubleIteratorOfBuffer implements DoubleIterator {
+    private final DoubleBuffer buffer;
+
+    /**
+     * Ctor.
+     *
+     * @param buffer the buffer
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public DoubleIteratorOfBuffer(final DoubleBuffer buffer) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null").duplicate();
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the byte order of the buffer.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public DoubleIteratorOfBuffer(final ByteBuffer buffer) {
+        this(buffer, Objects.requireNonNull(buffer, "buffer is null").order());
+    }
+
+    /**
+     * Ctor. Items are read from the bytes of the buffer in the given byte order.
+     *
+     * @param buffer the bytes buffer, trailing bytes that do not form a whole item are ignored
+     * @param order  the byte order
+     * @throws NullPointerException if {@code buffer} or {@code order} is null
+     */
+    public DoubleIteratorOfBuffer(final ByteBuffer buffer, final ByteOrder order) {
+        this(Objects.requireNonNull(buffer, "buffer is null").duplicate()
+                .order(Objects.requireNonNull(order, "order is null")).asDoubleBuffer());
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.buffer.hasRemaining();
+    }
+
+    @Override
+    public double next() {
+        if (this.buffer.hasRemaining()) {
+            return this.buffer.get();
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final DoubleBuffer buffer = this.buffer;
+        final int limit = buffer.limit();
+        int index = buffer.position();
+        ((Buffer) buffer).position(limit);
+        for (; index < limit; ++index) {
+            action.accept(buffer.get(index));
+        }
+    }
+
+    @Override
+    public int next(final double[] array, final int offset, final int length) {
+        Objects.requireNonNull(array, "array is null");
+        if (offset < 0 || length < 0 || length > array.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+        }
+        final int count = Math.min(length, this.buffer.remaining());
+        this.buffer.get(array, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        final int count = (int) Math.min(n, this.buffer.remaining());
+        ((Buffer) this.buffer).position(this.buffer.position() + count);
+        return count;
+    }
+
+    @Override
+    public long remaining() {
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.buffer.hasRemaining()) {
+            action.accept(this.buffer.get());
+            return true;
+        }
+        return false;
+    }
+}
@@ -65,4 +65,14 @@ public final class DoubleIteratorOfIterator<T> implements DoubleIterator {
     public void forEachRemaining(final DoubleConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsDouble(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsDouble(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
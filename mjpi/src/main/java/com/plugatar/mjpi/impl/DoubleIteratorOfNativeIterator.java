@@ -58,4 +58,14 @@ public final class DoubleIteratorOfNativeIterator implements DoubleIterator {
     public void forEachRemaining(final DoubleConsumer action) {
         this.origin.forEachRemaining(action);
     }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.origin.nextDouble());
+            return true;
+        }
+        return false;
+    }
 }
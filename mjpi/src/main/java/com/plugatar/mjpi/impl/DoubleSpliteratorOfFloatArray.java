@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The {@link Spliterator.OfDouble} implementation based on {@code float} array.
+ * Items are widened to {@code double}.
+ */
+public final class DoubleSpliteratorOfFloatArray implements Spliterator.OfDouble {
+    private final float[] items;
+    private final int fence;
+    private int index;
+
+    /**
+     * Ctor.
+     *
+     * @param items items to iterate
+     * @throws NullPointerException if {@code items} is null
+     */
+    public DoubleSpliteratorOfFloatArray(final float... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     items to iterate
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public DoubleSpliteratorOfFloatArray(final float[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        this.items = items;
+        this.fence = toIndex;
+        this.index = fromIndex;
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        final int from = this.index;
+        final int middle = (from + this.fence) >>> 1;
+        if (from >= middle) {
+            return null;
+        }
+        this.index = middle;
+        return new DoubleSpliteratorOfFloatArray(this.items, from, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.index < this.fence) {
+            action.accept(this.items[this.index++]);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final DoubleConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final float[] items = this.items;
+        final int fence = this.fence;
+        int index = this.index;
+        this.index = fence;
+        for (; index < fence; ++index) {
+            action.accept(items[index]);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.fence - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
@@ -65,4 +65,14 @@ public final class FloatIteratorOfIterator<T> implements FloatIterator {
     public void forEachRemaining(final FloatConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsFloat(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsFloat(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.FloatConsumer;
+import com.plugatar.mjpi.FloatIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The {@link FloatIterator} implementation based on {@link FloatIterator} and a pipeline of lazy
+ * operations. Adjacent operations are fused where possible and all operations are applied
+ * to each element in a single loop, so a chain of operations costs a single iterator layer.
+ * <br>
+ * Each operation method returns a new pipeline over the same origin iterator, the pipeline
+ * the method was invoked on should not be used after that.
+ */
+public final class FloatIteratorPipeline implements FloatIterator {
+    private static final int MAP = 0;
+    private static final int FILTER = 1;
+    private static final int PEEK = 2;
+    private static final int LIMIT = 3;
+    private static final int DROP = 4;
+    private static final int TAKE_WHILE = 5;
+    private static final int DROP_WHILE = 6;
+    private final FloatIterator origin;
+    private final int[] kinds;
+    private final Object[] functions;
+    private final long[] counters;
+    private boolean started;
+    private boolean finished;
+    private boolean hasItem;
+    private float item;
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin iterator
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public FloatIteratorPipeline(final FloatIterator origin) {
+        this(Objects.requireNonNull(origin, "origin is null"), new int[0], new Object[0], new long[0]);
+    }
+
+    private FloatIteratorPipeline(final FloatIterator origin,
+                                  final int[] kinds,
+                                  final Object[] functions,
+                                  final long[] counters) {
+        this.origin = origin;
+        this.kinds = kinds;
+        this.functions = functions;
+        this.counters = counters;
+        this.started = false;
+        this.finished = hasExhaustedLimit(kinds, counters);
+        this.hasItem = false;
+    }
+
+    /**
+     * Returns a pipeline whose elements are the results of applying the given function
+     * to the elements of this pipeline, the results are narrowed to {@code float}.
+     *
+     * @param mapper the function to apply to each element
+     * @return the new pipeline
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public FloatIteratorPipeline map(final DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper, "mapper is null");
+        if (this.lastKindIs(MAP)) {
+            final DoubleUnaryOperator previous = (DoubleUnaryOperator) this.functions[this.kinds.length - 1];
+            return this.replaceLast((DoubleUnaryOperator) item -> mapper.applyAsDouble((float) previous.applyAsDouble(item)), 0L);
+        }
+        return this.append(MAP, mapper, 0L);
+    }
+
+    /**
+     * Returns a pipeline consisting of the elements of this pipeline that match the given predicate.
+     *
+     * @param predicate the predicate to apply to each element
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    public FloatIteratorPipeline filter(final DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        if (this.lastKindIs(FILTER)) {
+            final DoublePredicate previous = (DoublePredicate) this.functions[this.kinds.length - 1];
+            return this.replaceLast((DoublePredicate) item -> previous.test(item) && predicate.test(item), 0L);
+        }
+        return this.append(FILTER, predicate, 0L);
+    }
+
+    /**
+     * Returns a pipeline consisting of the elements of this pipeline, additionally performing
+     * the given action on each element as it is consumed.
+     *
+     * @param action the action to perform on each element
+     * @return the new pipeline
+     * @throws NullPointerException if {@code action} is null
+     */
+    public FloatIteratorPipeline peek(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.lastKindIs(PEEK)) {
+            final FloatConsumer previous = (FloatConsumer) this.functions[this.kinds.length - 1];
+            return this.replaceLast((FloatConsumer) item -> {
+                previous.accept(item);
+                action.accept(item);
+            }, 0L);
+        }
+        return this.append(PEEK, action, 0L);
+    }
+
+    /**
+     * Returns a pipeline consisting of the elements of this pipeline, truncated to be
+     * no longer than {@code maxSize} in length.
+     *
+     * @param maxSize the number of elements the pipeline should be limited to
+     * @return the new pipeline
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    public FloatIteratorPipeline limit(final long maxSize) {
+        if (maxSize < 0L) {
+            throw new IllegalArgumentException("maxSize is negative");
+        }
+        if (this.lastKindIs(LIMIT)) {
+            return this.replaceLast(null, Math.min(this.counters[this.kinds.length - 1], maxSize));
+        }
+        return this.append(LIMIT, null, maxSize);
+    }
+
+    /**
+     * Returns a pipeline consisting of the remaining elements of this pipeline after
+     * discarding the first {@code n} elements. Unlike {@link #skip(long)} the elements
+     * are discarded lazily.
+     *
+     * @param n the number of leading elements to discard
+     * @return the new pipeline
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public FloatIteratorPipeline drop(final long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n is negative");
+        }
+        if (this.lastKindIs(DROP)) {
+            final long previous = this.counters[this.kinds.length - 1];
+            return this.replaceLast(null, Long.MAX_VALUE - previous < n ? Long.MAX_VALUE : previous + n);
+        }
+        return this.append(DROP, null, n);
+    }
+
+    /**
+     * Returns a pipeline consisting of the longest prefix of elements of this pipeline
+     * that match the given predicate.
+     *
+     * @param predicate the predicate to apply to elements
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    public FloatIteratorPipeline takeWhile(final DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        if (this.lastKindIs(TAKE_WHILE)) {
+            final DoublePredicate previous = (DoublePredicate) this.functions[this.kinds.length - 1];
+            return this.replaceLast((DoublePredicate) item -> previous.test(item) && predicate.test(item), 0L);
+        }
+        return this.append(TAKE_WHILE, predicate, 0L);
+    }
+
+    /**
+     * Returns a pipeline consisting of the remaining elements of this pipeline after
+     * discarding the longest prefix of elements that match the given predicate.
+     *
+     * @param predicate the predicate to apply to elements
+     * @return the new pipeline
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    public FloatIteratorPipeline dropWhile(final DoublePredicate predicate) {
+        Objects.requireNonNull(predicate, "predicate is null");
+        return this.append(DROP_WHILE, predicate, 1L);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasItem || this.advance();
+    }
+
+    @Override
+    public float next() {
+        if (this.hasItem || this.advance()) {
+            this.hasItem = false;
+            return this.item;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean tryAdvance(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.hasItem || this.advance()) {
+            this.hasItem = false;
+            action.accept(this.item);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        while (this.hasItem || this.advance()) {
+            this.hasItem = false;
+            action.accept(this.item);
+        }
+    }
+
+    private static boolean hasExhaustedLimit(final int[] kinds, final long[] counters) {
+        for (int index = 0; index < kinds.length; ++index) {
+            if (kinds[index] == LIMIT && counters[index] == 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean lastKindIs(final int kind) {
+        final int length = this.kinds.length;
+        return !this.started && length != 0 && this.kinds[length - 1] == kind;
+    }
+
+    private FloatIteratorPipeline append(final int kind, final Object function, final long counter) {
+        if (this.started) {
+            return new FloatIteratorPipeline(this).append(kind, function, counter);
+        }
+        final int length = this.kinds.length;
+        final int[] kinds = Arrays.copyOf(this.kinds, length + 1);
+        final Object[] functions = Arrays.copyOf(this.functions, length + 1);
+        final long[] counters = Arrays.copyOf(this.counters, length + 1);
+        kinds[length] = kind;
+        functions[length] = function;
+        counters[length] = counter;
+        return new FloatIteratorPipeline(this.origin, kinds, functions, counters);
+    }
+
+    private FloatIteratorPipeline replaceLast(final Object function, final long counter) {
+        final int length = this.kinds.length;
+        final Object[] functions = this.functions.clone();
+        final long[] counters = this.counters.clone();
+        functions[length - 1] = function;
+        counters[length - 1] = counter;
+        return new FloatIteratorPipeline(this.origin, this.kinds, functions, counters);
+    }
+
+    private boolean advance() {
+        this.started = true;
+        final FloatIterator origin = this.origin;
+        final int[] kinds = this.kinds;
+        final Object[] functions = this.functions;
+        final long[] counters = this.counters;
+        items:
+        while (!this.finished && origin.hasNext()) {
+            float item = origin.next();
+            for (int index = 0; index < kinds.length; ++index) {
+                switch (kinds[index]) {
+                    case MAP:
+                        item = (float) ((DoubleUnaryOperator) functions[index]).applyAsDouble(item);
+                        break;
+                    case FILTER:
+                        if (!((DoublePredicate) functions[index]).test(item)) {
+                            continue items;
+                        }
+                        break;
+                    case PEEK:
+                        ((FloatConsumer) functions[index]).accept(item);
+                        break;
+                    case LIMIT:
+                        if (--counters[index] == 0L) {
+                            this.finished = true;
+                        }
+                        break;
+                    case DROP:
+                        if (counters[index] != 0L) {
+                            --counters[index];
+                            continue items;
+                        }
+                        break;
+                    case TAKE_WHILE:
+                        if (!((DoublePredicate) functions[index]).test(item)) {
+                            this.finished = true;
+                            return false;
+                        }
+                        break;
+                    default:
+                        if (counters[index] != 0L) {
+                            if (((DoublePredicate) functions[index]).test(item)) {
+                                continue items;
+                            }
+                            counters[index] = 0L;
+                        }
+                        break;
+                }
+            }
+            this.item = item;
+            this.hasItem = true;
+            return true;
+        }
+        return false;
+    }
+}
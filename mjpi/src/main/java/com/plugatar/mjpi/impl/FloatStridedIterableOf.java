@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.FloatConsumer;
+import com.plugatar.mjpi.FloatIterable;
+import com.plugatar.mjpi.FloatIterator;
+
+import java.util.Objects;
+
+/**
+ * The {@link FloatIterable} implementation based on {@code float} array that visits every {@code step}-th item
+ * of the given range.
+ *
+ * @see FloatStridedIteratorOf
+ */
+public final class FloatStridedIterableOf implements FloatIterable {
+    private final float[] items;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int step;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array
+     * @param step  the distance between the indexes of adjacent items
+     * @throws NullPointerException     if {@code items} is null
+     * @throws IllegalArgumentException if {@code step} is zero
+     */
+    public FloatStridedIterableOf(final float[] items, final int step) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length, step);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array
+     * @param fromIndex the index of the first item of the range, inclusive
+     * @param toIndex   the index of the last item of the range, exclusive
+     * @param step      the distance between the indexes of adjacent items
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public FloatStridedIterableOf(final float[] items, final int fromIndex, final int toIndex, final int step) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        if (step == 0) {
+            throw new IllegalArgumentException("step is zero");
+        }
+        this.items = items;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.step = step;
+    }
+
+    @Override
+    public FloatIterator floatIterator() {
+        return new FloatStridedIteratorOf(this.items, this.fromIndex, this.toIndex, this.step);
+    }
+
+    @Override
+    public long size() {
+        return FloatStridedIteratorOf.stridedCount(this.toIndex - this.fromIndex, this.step);
+    }
+
+    @Override
+    public void forEachFloat(final FloatConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final float[] items = this.items;
+        final int step = this.step;
+        int index = step > 0 ? this.fromIndex : this.toIndex - 1;
+        int count = FloatStridedIteratorOf.stridedCount(this.toIndex - this.fromIndex, step);
+        while (count-- > 0) {
+            action.accept(items[index]);
+            index += step;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterable} implementation based on {@code int} array.
+ */
+public final class IntIterableOf implements IntIterable {
+    private final int[] items;
+    private final int fromIndex;
+    private final int toIndex;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array
+     * @throws NullPointerException if {@code items} is null
+     */
+    public IntIterableOf(final int... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public IntIterableOf(final int[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        this.items = items;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    @Override
+    public IntIterator intIterator() {
+        return new IntIteratorOf(this.items, this.fromIndex, this.toIndex);
+    }
+
+    /**
+     * Returns a {@link SortedIntIterator} over the items. {@link SortedIntIterator#advanceTo(int)} uses the
+     * galloping search of {@link SortedIntIteratorOf}, so sorted-set iterators such as
+     * {@link IntIteratorOfIntersection} skip items without scanning them. Items are not checked, the
+     * iteration order is undefined if they are not sorted in strictly ascending order.
+     *
+     * @return sorted iterator
+     */
+    public SortedIntIterator sortedIntIterator() {
+        return new SortedIntIteratorOf(this.items, this.fromIndex, this.toIndex);
+    }
+
+    @Override
+    public long size() {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    public void forEachInt(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final int[] items = this.items;
+        final int toIndex = this.toIndex;
+        for (int index = this.fromIndex; index < toIndex; ++index) {
+            action.accept(items[index]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(
+                this.items, this.fromIndex, this.toIndex, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+}
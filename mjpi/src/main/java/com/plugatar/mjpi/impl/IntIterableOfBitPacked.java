@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * The immutable {@link IntIterable} implementation based on a bit-packed copy of an {@code int} array.
+ * <p>
+ * Items are split into blocks of 128 items. Each block is stored as its minimum item (frame of reference)
+ * and the offsets of its items from the minimum packed with the number of bits required for the greatest
+ * offset, so a block of items within a range of 16 values takes 4 bits per item. Iterators unpack one
+ * block at a time, {@link IntIterator#next(int[], int, int)} unpacks whole blocks right into the given
+ * array, {@link IntIterator#skip(long)} jumps over blocks without unpacking them and the spliterator
+ * splits on block boundaries.
+ */
+public final class IntIterableOfBitPacked implements IntIterable {
+    private static final int BLOCK_SHIFT = 7;
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    private static final int MIN_SPLIT_SIZE = 1024;
+    private final int size;
+    private final int[] bases;
+    private final byte[] widths;
+    private final int[] offsets;
+    private final long[] words;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array
+     * @throws NullPointerException if {@code items} is null
+     */
+    public IntIterableOfBitPacked(final int... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public IntIterableOfBitPacked(final int[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        final int size = toIndex - fromIndex;
+        final int blocks = (int) (((long) size + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+        final int[] bases = new int[blocks];
+        final byte[] widths = new byte[blocks];
+        final int[] offsets = new int[blocks];
+        int length = 0;
+        for (int block = 0; block < blocks; ++block) {
+            final int from = fromIndex + (block << BLOCK_SHIFT);
+            final int to = Math.min(toIndex, from + BLOCK_SIZE);
+            int min = items[from];
+            int max = items[from];
+            for (int index = from + 1; index < to; ++index) {
+                min = Math.min(min, items[index]);
+                max = Math.max(max, items[index]);
+            }
+            final int width = 64 - Long.numberOfLeadingZeros((long) max - min);
+            bases[block] = min;
+            widths[block] = (byte) width;
+            offsets[block] = length;
+            length += width * (BLOCK_SIZE / 64);
+        }
+        final long[] words = new long[length];
+        for (int block = 0; block < blocks; ++block) {
+            final int width = widths[block];
+            if (width == 0) {
+                continue;
+            }
+            final int from = fromIndex + (block << BLOCK_SHIFT);
+            final int to = Math.min(toIndex, from + BLOCK_SIZE);
+            final int base = bases[block];
+            final int offset = offsets[block];
+            for (int index = from, bit = 0; index < to; ++index, bit += width) {
+                final long value = (items[index] - base) & 0xFFFFFFFFL;
+                final int word = offset + (bit >>> 6);
+                final int shift = bit & 63;
+                words[word] |= value << shift;
+                if (shift + width > 64) {
+                    words[word + 1] |= value >>> (64 - shift);
+                }
+            }
+        }
+        this.size = size;
+        this.bases = bases;
+        this.widths = widths;
+        this.offsets = offsets;
+        this.words = words;
+    }
+
+    /**
+     * Unpacks the first {@code count} items of the block into the array.
+     */
+    private void unpack(final int block, final int[] array, final int arrayOffset, final int count) {
+        final int width = this.widths[block];
+        final int base = this.bases[block];
+        if (width == 0) {
+            Arrays.fill(array, arrayOffset, arrayOffset + count, base);
+            return;
+        }
+        final long[] words = this.words;
+        final long mask = (1L << width) - 1L;
+        final int to = arrayOffset + count;
+        int word = this.offsets[block];
+        switch (width) {
+            case 1:
+            case 2:
+            case 4:
+            case 8:
+            case 16:
+            case 32:
+                final int perWord = 64 / width;
+                for (int index = arrayOffset; index < to; ++word) {
+                    long bits = words[word];
+                    final int end = Math.min(to, index + perWord);
+                    for (; index < end; ++index) {
+                        array[index] = base + (int) (bits & mask);
+                        bits >>>= width;
+                    }
+                }
+                break;
+            default:
+                for (int index = arrayOffset, bit = 0; index < to; ++index, bit += width) {
+                    final int shift = bit & 63;
+                    final int current = word + (bit >>> 6);
+                    long bits = words[current] >>> shift;
+                    if (shift + width > 64) {
+                        bits |= words[current + 1] << (64 - shift);
+                    }
+                    array[index] = base + (int) (bits & mask);
+                }
+                break;
+        }
+    }
+
+    @Override
+    public IntIterator intIterator() {
+        return new BlockIterator(this, 0, this.size);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new BlockSpliterator(this, 0, this.size);
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public void forEachInt(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.intIterator().forEachRemaining(action);
+    }
+
+    /**
+     * The iterator over the range of items that unpacks one block at a time.
+     */
+    private static final class BlockIterator implements IntIterator {
+        private final IntIterableOfBitPacked packed;
+        private final int toIndex;
+        private final int[] buffer;
+        private int index;
+        private int block;
+
+        private BlockIterator(final IntIterableOfBitPacked packed, final int fromIndex, final int toIndex) {
+            this.packed = packed;
+            this.toIndex = toIndex;
+            this.buffer = new int[BLOCK_SIZE];
+            this.index = fromIndex;
+            this.block = -1;
+        }
+
+        private int[] buffer(final int block) {
+            if (block != this.block) {
+                final int count = Math.min(BLOCK_SIZE, this.packed.size - (block << BLOCK_SHIFT));
+                this.packed.unpack(block, this.buffer, 0, count);
+                this.block = block;
+            }
+            return this.buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.toIndex;
+        }
+
+        @Override
+        public int next() {
+            final int index = this.index;
+            if (index < this.toIndex) {
+                this.index = index + 1;
+                return this.buffer(index >>> BLOCK_SHIFT)[index & (BLOCK_SIZE - 1)];
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            final int toIndex = this.toIndex;
+            int index = this.index;
+            this.index = toIndex;
+            while (index < toIndex) {
+                final int block = index >>> BLOCK_SHIFT;
+                final int[] buffer = this.buffer(block);
+                final int end = Math.min(toIndex, (block + 1) << BLOCK_SHIFT);
+                for (; index < end; ++index) {
+                    action.accept(buffer[index & (BLOCK_SIZE - 1)]);
+                }
+            }
+        }
+
+        @Override
+        public int next(final int[] array, final int offset, final int length) {
+            Objects.requireNonNull(array, "array is null");
+            if (offset < 0 || length < 0 || length > array.length - offset) {
+                throw new IndexOutOfBoundsException(
+                        "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+            }
+            final int count = Math.min(length, this.toIndex - this.index);
+            int copied = 0;
+            while (copied < count) {
+                final int index = this.index;
+                final int block = index >>> BLOCK_SHIFT;
+                final int position = index & (BLOCK_SIZE - 1);
+                final int chunk = Math.min(count - copied, BLOCK_SIZE - position);
+                if (position == 0 && block != this.block) {
+                    this.packed.unpack(block, array, offset + copied, chunk);
+                } else {
+                    System.arraycopy(this.buffer(block), position, array, offset + copied, chunk);
+                }
+                copied += chunk;
+                this.index = index + chunk;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n < 0L) {
+                throw new IllegalArgumentException("n is negative");
+            }
+            final int count = (int) Math.min(n, this.toIndex - this.index);
+            this.index += count;
+            return count;
+        }
+
+        @Override
+        public long remaining() {
+            return this.toIndex - this.index;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (this.index < this.toIndex) {
+                action.accept(this.next());
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The spliterator over the range of items that splits the range in halves on block boundaries until
+     * it is started.
+     */
+    private static final class BlockSpliterator implements Spliterator.OfInt {
+        private final IntIterableOfBitPacked packed;
+        private int fromIndex;
+        private final int toIndex;
+        private BlockIterator iterator;
+
+        private BlockSpliterator(final IntIterableOfBitPacked packed, final int fromIndex, final int toIndex) {
+            this.packed = packed;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.iterator = null;
+        }
+
+        private BlockIterator iterator() {
+            BlockIterator iterator = this.iterator;
+            if (iterator == null) {
+                iterator = new BlockIterator(this.packed, this.fromIndex, this.toIndex);
+                this.iterator = iterator;
+            }
+            return iterator;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final int from = this.fromIndex;
+            final int middle = from + ((this.toIndex - from) >>> (BLOCK_SHIFT + 1) << BLOCK_SHIFT);
+            if (this.iterator != null || middle - from < MIN_SPLIT_SIZE) {
+                return null;
+            }
+            this.fromIndex = middle;
+            return new BlockSpliterator(this.packed, from, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            return this.iterator().tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            this.iterator().forEachRemaining(action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.iterator == null ? this.toIndex - this.fromIndex : this.iterator.remaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.IntIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterable} implementation based on a file of fixed-width {@code int} values mapped into memory.
+ * <p>
+ * Each iterator maps the file with {@link FileChannel#map(FileChannel.MapMode, long, long)} segment by
+ * segment, so files larger than 2 GB are read without copying items into the heap and without read calls
+ * per chunk. The spliterator splits the range of items into independent ranges, each of them maps its own
+ * segments, which makes {@link #parallelStream()} scan the file in parallel.
+ * <p>
+ * The number of items is defined by the file size at the moment of construction, trailing bytes that do
+ * not form a whole item are ignored. {@link IOException}s are rethrown as {@link UncheckedIOException}s.
+ */
+public final class IntIterableOfMappedFile implements IntIterable {
+    /**
+     * The default maximum number of items mapped at once, 1 GB of bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = (1 << 30) / 4;
+    private static final int ITEM_BYTES = 4;
+    private static final long MIN_SPLIT_SIZE = 1024L;
+    private final Path path;
+    private final ByteOrder order;
+    private final long fromIndex;
+    private final long toIndex;
+    private final int segmentSize;
+
+    /**
+     * Ctor.
+     *
+     * @param path  the file path
+     * @param order the byte order of items
+     * @throws NullPointerException if {@code path} or {@code order} is null
+     * @throws UncheckedIOException if an I/O error occurs reading the file size
+     */
+    public IntIterableOfMappedFile(final Path path, final ByteOrder order) {
+        this(path, order, 0L, itemsCount(Objects.requireNonNull(path, "path is null")), DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path      the file path
+     * @param order     the byte order of items
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code path} or {@code order} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than the number of items or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws UncheckedIOException      if an I/O error occurs reading the file size
+     */
+    public IntIterableOfMappedFile(final Path path, final ByteOrder order,
+                                   final long fromIndex, final long toIndex) {
+        this(path, order, fromIndex, toIndex, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path        the file path
+     * @param order       the byte order of items
+     * @param fromIndex   the index of the first item to iterate, inclusive
+     * @param toIndex     the index of the last item to iterate, exclusive
+     * @param segmentSize the maximum number of items mapped at once
+     * @throws NullPointerException      if {@code path} or {@code order} is null
+     * @throws IllegalArgumentException  if {@code segmentSize} is not positive or greater
+     *                                   than {@code Integer.MAX_VALUE / 4}
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than the number of items or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws UncheckedIOException      if an I/O error occurs reading the file size
+     */
+    public IntIterableOfMappedFile(final Path path, final ByteOrder order, final long fromIndex,
+                                   final long toIndex, final int segmentSize) {
+        Objects.requireNonNull(path, "path is null");
+        Objects.requireNonNull(order, "order is null");
+        if (segmentSize <= 0 || segmentSize > Integer.MAX_VALUE / ITEM_BYTES) {
+            throw new IllegalArgumentException("segmentSize: " + segmentSize);
+        }
+        final long count = itemsCount(path);
+        if (fromIndex < 0L || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items count: " + count);
+        }
+        this.path = path;
+        this.order = order;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+        this.segmentSize = segmentSize;
+    }
+
+    private static long itemsCount(final Path path) {
+        try {
+            return Files.size(path) / ITEM_BYTES;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public IntIterator intIterator() {
+        return new SegmentIterator(this.path, this.order, this.fromIndex, this.toIndex, this.segmentSize);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new RangeSpliterator(this.path, this.order, this.fromIndex, this.toIndex, this.segmentSize);
+    }
+
+    @Override
+    public long size() {
+        return this.toIndex - this.fromIndex;
+    }
+
+    @Override
+    public void forEachInt(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.intIterator().forEachRemaining(action);
+    }
+
+    /**
+     * The iterator over the range of items that maps one segment at a time.
+     */
+    private static final class SegmentIterator implements IntIterator {
+        private final Path path;
+        private final ByteOrder order;
+        private final long toIndex;
+        private final int segmentSize;
+        private long index;
+        private IntBuffer segment;
+
+        private SegmentIterator(final Path path, final ByteOrder order, final long fromIndex,
+                                final long toIndex, final int segmentSize) {
+            this.path = path;
+            this.order = order;
+            this.toIndex = toIndex;
+            this.segmentSize = segmentSize;
+            this.index = fromIndex;
+            this.segment = null;
+        }
+
+        private IntBuffer segment() {
+            IntBuffer segment = this.segment;
+            if (segment == null || !segment.hasRemaining()) {
+                final long count = Math.min(this.segmentSize, this.toIndex - this.index);
+                try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                    final ByteBuffer bytes = channel.map(
+                            FileChannel.MapMode.READ_ONLY, this.index * ITEM_BYTES, count * ITEM_BYTES);
+                    segment = bytes.order(this.order).asIntBuffer();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                this.segment = segment;
+            }
+            return segment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.toIndex;
+        }
+
+        @Override
+        public int next() {
+            if (this.index < this.toIndex) {
+                final int item = this.segment().get();
+                ++this.index;
+                return item;
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            while (this.index < this.toIndex) {
+                final IntBuffer segment = this.segment();
+                final int position = segment.position();
+                final int limit = segment.limit();
+                this.segment = null;
+                this.index += limit - position;
+                for (int idx = position; idx < limit; ++idx) {
+                    action.accept(segment.get(idx));
+                }
+            }
+        }
+
+        @Override
+        public int next(final int[] array, final int offset, final int length) {
+            Objects.requireNonNull(array, "array is null");
+            if (offset < 0 || length < 0 || length > array.length - offset) {
+                throw new IndexOutOfBoundsException(
+                        "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+            }
+            final int count = (int) Math.min(length, this.toIndex - this.index);
+            int copied = 0;
+            while (copied < count) {
+                final IntBuffer segment = this.segment();
+                final int chunk = Math.min(count - copied, segment.remaining());
+                segment.get(array, offset + copied, chunk);
+                copied += chunk;
+                this.index += chunk;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n < 0L) {
+                throw new IllegalArgumentException("n is negative");
+            }
+            final long count = Math.min(n, this.toIndex - this.index);
+            final IntBuffer segment = this.segment;
+            if (segment != null && count <= segment.remaining()) {
+                ((Buffer) segment).position(segment.position() + (int) count);
+            } else {
+                this.segment = null;
+            }
+            this.index += count;
+            return count;
+        }
+
+        @Override
+        public long remaining() {
+            return this.toIndex - this.index;
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (this.index < this.toIndex) {
+                action.accept(this.segment().get());
+                ++this.index;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The spliterator over the range of items that splits the range in halves until it is started.
+     */
+    private static final class RangeSpliterator implements Spliterator.OfInt {
+        private final Path path;
+        private final ByteOrder order;
+        private final int segmentSize;
+        private long fromIndex;
+        private final long toIndex;
+        private SegmentIterator iterator;
+
+        private RangeSpliterator(final Path path, final ByteOrder order, final long fromIndex,
+                                 final long toIndex, final int segmentSize) {
+            this.path = path;
+            this.order = order;
+            this.segmentSize = segmentSize;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.iterator = null;
+        }
+
+        private SegmentIterator iterator() {
+            SegmentIterator iterator = this.iterator;
+            if (iterator == null) {
+                iterator = new SegmentIterator(
+                        this.path, this.order, this.fromIndex, this.toIndex, this.segmentSize);
+                this.iterator = iterator;
+            }
+            return iterator;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final long from = this.fromIndex;
+            final long middle = (from + this.toIndex) >>> 1;
+            if (this.iterator != null || middle - from < MIN_SPLIT_SIZE) {
+                return null;
+            }
+            this.fromIndex = middle;
+            return new RangeSpliterator(this.path, this.order, from, middle, this.segmentSize);
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            return this.iterator().tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            this.iterator().forEachRemaining(action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.iterator == null ? this.toIndex - this.fromIndex : this.iterator.remaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+        }
+    }
+}
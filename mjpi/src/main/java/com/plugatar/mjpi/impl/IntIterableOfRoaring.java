@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+/**
+ * The immutable {@link IntIterable} implementation based on a compressed copy of a sorted {@code int} array.
+ * <p>
+ * Items are treated as a set: duplicates are stored once and items are iterated in ascending order.
+ * The 32-bit space is split into chunks of 2^16 values sharing the upper 16 bits, and each non-empty chunk
+ * keeps the lower 16 bits of its items in the smallest of three containers: a sorted {@code char} array
+ * (sparse chunks), a 2^16-bit bitmap (dense chunks) or an array of runs of consecutive values. Iterators
+ * implement {@link SortedIntIterator#advanceTo(int)} with a binary search over chunks and within a chunk.
+ */
+public final class IntIterableOfRoaring implements IntIterable {
+    private static final byte ARRAY = 0;
+    private static final byte BITMAP = 1;
+    private static final byte RUNS = 2;
+    private static final int MAX_ARRAY_SIZE = 4096;
+    private static final int BITMAP_WORDS = 1024;
+    private final int size;
+    private final int[] keys;
+    private final byte[] types;
+    private final char[][] lows;
+    private final long[][] bitmaps;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array sorted in ascending order
+     * @throws NullPointerException     if {@code items} is null
+     * @throws IllegalArgumentException if {@code items} are not sorted in ascending order
+     */
+    public IntIterableOfRoaring(final int... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array sorted in ascending order
+     * @param fromIndex the index of the first item, inclusive
+     * @param toIndex   the index of the last item, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws IllegalArgumentException  if {@code items} in the range are not sorted in ascending order
+     */
+    public IntIterableOfRoaring(final int[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        int chunks = 0;
+        for (int index = fromIndex; index < toIndex; ++index) {
+            if (index == fromIndex || items[index] >> 16 != items[index - 1] >> 16) {
+                ++chunks;
+            }
+            if (index != fromIndex && items[index] < items[index - 1]) {
+                throw new IllegalArgumentException("items are not sorted, index: " + index);
+            }
+        }
+        final int[] keys = new int[chunks];
+        final byte[] types = new byte[chunks];
+        final char[][] lows = new char[chunks][];
+        final long[][] bitmaps = new long[chunks][];
+        int size = 0;
+        int from = fromIndex;
+        for (int chunk = 0; chunk < chunks; ++chunk) {
+            final int key = items[from] >> 16;
+            int to = from;
+            int count = 0;
+            int runs = 0;
+            for (; to < toIndex && items[to] >> 16 == key; ++to) {
+                if (to == from || items[to] != items[to - 1]) {
+                    if (to == from || items[to] != items[to - 1] + 1) {
+                        ++runs;
+                    }
+                    ++count;
+                }
+            }
+            keys[chunk] = key;
+            if (runs * 4 < Math.min(count * 2, BITMAP_WORDS * 8)) {
+                types[chunk] = RUNS;
+                lows[chunk] = runsContainer(items, from, to, runs);
+            } else if (count <= MAX_ARRAY_SIZE) {
+                types[chunk] = ARRAY;
+                lows[chunk] = arrayContainer(items, from, to, count);
+            } else {
+                types[chunk] = BITMAP;
+                bitmaps[chunk] = bitmapContainer(items, from, to);
+            }
+            size += count;
+            from = to;
+        }
+        this.size = size;
+        this.keys = keys;
+        this.types = types;
+        this.lows = lows;
+        this.bitmaps = bitmaps;
+    }
+
+    private static char[] arrayContainer(final int[] items, final int from, final int to, final int count) {
+        final char[] container = new char[count];
+        int position = 0;
+        for (int index = from; index < to; ++index) {
+            if (index == from || items[index] != items[index - 1]) {
+                container[position++] = (char) items[index];
+            }
+        }
+        return container;
+    }
+
+    private static char[] runsContainer(final int[] items, final int from, final int to, final int runs) {
+        final char[] container = new char[runs * 2];
+        int position = -1;
+        for (int index = from; index < to; ++index) {
+            if (index == from || items[index] != items[index - 1] && items[index] != items[index - 1] + 1) {
+                container[++position] = (char) items[index];
+                ++position;
+            }
+            container[position] = (char) items[index];
+        }
+        return container;
+    }
+
+    private static long[] bitmapContainer(final int[] items, final int from, final int to) {
+        final long[] container = new long[BITMAP_WORDS];
+        for (int index = from; index < to; ++index) {
+            final int low = items[index] & 0xFFFF;
+            container[low >>> 6] |= 1L << low;
+        }
+        return container;
+    }
+
+    @Override
+    public SortedIntIterator intIterator() {
+        return new ContainerIterator(this);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        final SortedIntIterator iterator = this.intIterator();
+        return new Spliterators.AbstractIntSpliterator(this.size, Spliterator.ORDERED | Spliterator.DISTINCT
+                | Spliterator.SORTED | Spliterator.SIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(final IntConsumer action) {
+                return iterator.tryAdvance(action);
+            }
+
+            @Override
+            public void forEachRemaining(final IntConsumer action) {
+                iterator.forEachRemaining(action);
+            }
+
+            @Override
+            public Comparator<? super Integer> getComparator() {
+                return null;
+            }
+        };
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public void forEachInt(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.intIterator().forEachRemaining(action);
+    }
+
+    /**
+     * The iterator that keeps a cursor in the current container and prefetches the next item.
+     */
+    private static final class ContainerIterator implements SortedIntIterator {
+        private final int[] keys;
+        private final byte[] types;
+        private final char[][] lows;
+        private final long[][] bitmaps;
+        private int chunk;
+        private int position;
+        private int low;
+        private long word;
+        private boolean hasNext;
+        private int next;
+
+        private ContainerIterator(final IntIterableOfRoaring roaring) {
+            this.keys = roaring.keys;
+            this.types = roaring.types;
+            this.lows = roaring.lows;
+            this.bitmaps = roaring.bitmaps;
+            this.enter(0, 0);
+            this.fetch();
+        }
+
+        /**
+         * Moves the cursor to the first item of the chunk that is greater than or equal to the low value.
+         */
+        private void enter(final int chunk, final int low) {
+            this.chunk = chunk;
+            if (chunk >= this.keys.length) {
+                return;
+            }
+            switch (this.types[chunk]) {
+                case ARRAY:
+                    final int index = Arrays.binarySearch(this.lows[chunk], (char) low);
+                    this.position = index < 0 ? -index - 1 : index;
+                    break;
+                case BITMAP:
+                    this.position = low >>> 6;
+                    this.word = this.bitmaps[chunk][low >>> 6] & (-1L << low);
+                    break;
+                default:
+                    final char[] runs = this.lows[chunk];
+                    int left = 0;
+                    int right = runs.length / 2;
+                    while (left < right) {
+                        final int middle = (left + right) >>> 1;
+                        if (runs[middle * 2 + 1] < low) {
+                            left = middle + 1;
+                        } else {
+                            right = middle;
+                        }
+                    }
+                    this.position = left * 2;
+                    this.low = left * 2 < runs.length ? Math.max(runs[left * 2], low) : 0;
+                    break;
+            }
+        }
+
+        /**
+         * Reads the item under the cursor into {@code next} and moves the cursor forward.
+         */
+        private void fetch() {
+            final int[] keys = this.keys;
+            while (this.chunk < keys.length) {
+                final int chunk = this.chunk;
+                final int low;
+                switch (this.types[chunk]) {
+                    case ARRAY:
+                        final char[] array = this.lows[chunk];
+                        low = this.position < array.length ? array[this.position++] : -1;
+                        break;
+                    case BITMAP:
+                        final long[] bitmap = this.bitmaps[chunk];
+                        long word = this.word;
+                        while (word == 0L && this.position < BITMAP_WORDS - 1) {
+                            word = bitmap[++this.position];
+                        }
+                        if (word == 0L) {
+                            low = -1;
+                        } else {
+                            low = this.position << 6 | Long.numberOfTrailingZeros(word);
+                            word &= word - 1L;
+                        }
+                        this.word = word;
+                        break;
+                    default:
+                        final char[] runs = this.lows[chunk];
+                        if (this.position < runs.length) {
+                            low = this.low;
+                            if (low == runs[this.position + 1]) {
+                                this.position += 2;
+                                this.low = this.position < runs.length ? runs[this.position] : 0;
+                            } else {
+                                this.low = low + 1;
+                            }
+                        } else {
+                            low = -1;
+                        }
+                        break;
+                }
+                if (low >= 0) {
+                    this.hasNext = true;
+                    this.next = keys[chunk] << 16 | low;
+                    return;
+                }
+                this.enter(chunk + 1, 0);
+            }
+            this.hasNext = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.hasNext;
+        }
+
+        @Override
+        public int next() {
+            if (this.hasNext) {
+                final int next = this.next;
+                this.fetch();
+                return next;
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public boolean advanceTo(final int target) {
+            if (!this.hasNext || this.next >= target) {
+                return this.hasNext;
+            }
+            final int key = target >> 16;
+            if (this.keys[this.chunk] == key) {
+                this.enter(this.chunk, target & 0xFFFF);
+            } else {
+                final int chunk = Arrays.binarySearch(this.keys, this.chunk + 1, this.keys.length, key);
+                if (chunk >= 0) {
+                    this.enter(chunk, target & 0xFFFF);
+                } else {
+                    this.enter(-chunk - 1, 0);
+                }
+            }
+            this.fetch();
+            return this.hasNext;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (!this.hasNext) {
+                return;
+            }
+            this.hasNext = false;
+            action.accept(this.next);
+            final int[] keys = this.keys;
+            for (int chunk = this.chunk; chunk < keys.length; this.enter(++chunk, 0)) {
+                final int base = keys[chunk] << 16;
+                switch (this.types[chunk]) {
+                    case ARRAY:
+                        final char[] array = this.lows[chunk];
+                        for (int index = this.position; index < array.length; ++index) {
+                            action.accept(base | array[index]);
+                        }
+                        break;
+                    case BITMAP:
+                        final long[] bitmap = this.bitmaps[chunk];
+                        long word = this.word;
+                        for (int index = this.position; ; word = bitmap[index]) {
+                            while (word != 0L) {
+                                action.accept(base | index << 6 | Long.numberOfTrailingZeros(word));
+                                word &= word - 1L;
+                            }
+                            if (++index == BITMAP_WORDS) {
+                                break;
+                            }
+                        }
+                        break;
+                    default:
+                        final char[] runs = this.lows[chunk];
+                        int low = this.low;
+                        for (int index = this.position; index < runs.length; index += 2, low = -1) {
+                            final int end = runs[index + 1];
+                            for (int value = low < 0 ? runs[index] : low; value <= end; ++value) {
+                                action.accept(base | value);
+                            }
+                        }
+                        break;
+                }
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (this.hasNext) {
+                action.accept(this.next());
+                return true;
+            }
+            return false;
+        }
+    }
+}
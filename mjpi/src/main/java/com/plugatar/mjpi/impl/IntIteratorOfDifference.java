@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedIntIterator} implementation over elements of the minuend {@link IntIterator} that
+ * the subtrahend {@link IntIterator} does not contain, both in strictly ascending order.
+ * <p>
+ * The subtrahend is advanced to each element of the minuend, so a subtrahend implementing
+ * {@link SortedIntIterator}, such as {@link SortedIntIteratorOf} with its galloping search, skips its
+ * elements without returning them. The first element of each iterator is read on construction.
+ */
+public final class IntIteratorOfDifference implements SortedIntIterator {
+    private final SortedIntCursor minuend;
+    private final SortedIntCursor subtrahend;
+    private boolean hasNext;
+    private int next;
+
+    /**
+     * Ctor.
+     *
+     * @param minuend    the iterator of elements in strictly ascending order
+     * @param subtrahend the iterator of elements to exclude in strictly ascending order
+     * @throws NullPointerException if {@code minuend} or {@code subtrahend} is null
+     */
+    public IntIteratorOfDifference(final IntIterator minuend, final IntIterator subtrahend) {
+        this.minuend = new SortedIntCursor(minuend, "minuend");
+        this.subtrahend = new SortedIntCursor(subtrahend, "subtrahend");
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedIntCursor minuend = this.minuend;
+        final SortedIntCursor subtrahend = this.subtrahend;
+        while (minuend.hasHead) {
+            subtrahend.advanceTo(minuend.head);
+            if (!subtrahend.hasHead || subtrahend.head != minuend.head) {
+                this.hasNext = true;
+                this.next = minuend.head;
+                return;
+            }
+            minuend.advance();
+        }
+        this.hasNext = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public int next() {
+        if (this.hasNext) {
+            final int next = this.next;
+            this.minuend.advance();
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final int target) {
+        if (this.hasNext && this.next < target) {
+            this.minuend.advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedIntIterator} implementation over the intersection of {@link IntIterator}s of elements
+ * in strictly ascending order.
+ * <p>
+ * Iterators are ordered by {@link IntIterator#remaining()} on construction, iterators with an unknown
+ * number of elements go last. Elements are found with a leapfrog search: starting from the iterator with
+ * the fewest elements, iterators take turns in a round robin to advance to the greatest element seen so
+ * far until all of them stop at the same element. Iterators implementing {@link SortedIntIterator}, such
+ * as {@link SortedIntIteratorOf} and {@link IntIterableOf#sortedIntIterator()} with their galloping
+ * search, skip elements without returning them, other iterators are scanned linearly. The intersection of
+ * zero iterators is empty. The first element of each iterator is read on construction.
+ */
+public final class IntIteratorOfIntersection implements SortedIntIterator {
+    private final SortedIntCursor[] cursors;
+    private boolean hasNext;
+    private int next;
+
+    /**
+     * Ctor.
+     *
+     * @param iterators iterators of elements in strictly ascending order
+     * @throws NullPointerException if {@code iterators} or any of its elements is null
+     */
+    public IntIteratorOfIntersection(final IntIterator... iterators) {
+        this.cursors = SortedIntCursor.cursors(iterators);
+        Arrays.sort(this.cursors, Comparator.comparingLong(SortedIntCursor::remaining));
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedIntCursor[] cursors = this.cursors;
+        final int count = cursors.length;
+        if (count == 0 || !cursors[0].hasHead) {
+            this.hasNext = false;
+            return;
+        }
+        int target = cursors[0].head;
+        int matched = 1;
+        for (int index = 1 % count; matched < count; index = index + 1 == count ? 0 : index + 1) {
+            final SortedIntCursor cursor = cursors[index];
+            cursor.advanceTo(target);
+            if (!cursor.hasHead) {
+                this.hasNext = false;
+                return;
+            }
+            if (cursor.head == target) {
+                ++matched;
+            } else {
+                target = cursor.head;
+                matched = 1;
+            }
+        }
+        this.hasNext = true;
+        this.next = target;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public int next() {
+        if (this.hasNext) {
+            final int next = this.next;
+            this.cursors[0].advance();
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final int target) {
+        if (this.hasNext && this.next < target) {
+            this.cursors[0].advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
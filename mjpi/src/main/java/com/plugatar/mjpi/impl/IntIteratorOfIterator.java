@@ -65,4 +65,14 @@ public final class IntIteratorOfIterator<T> implements IntIterator {
     public void forEachRemaining(final IntConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsInt(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsInt(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link IntIterator} implementation that merges {@link IntIterator}s of elements in ascending order
+ * into one ascending iteration.
+ * <p>
+ * Iterators are merged with a loser tree: each internal node of the tournament keeps the loser of its
+ * match and the root keeps the winner, so replacing the returned element replays only the matches on the
+ * path from its leaf to the root, {@code log2(k)} comparisons for {@code k} iterators. Equal elements are
+ * returned in the order of iterators. The first element of each iterator is read on construction.
+ */
+public final class IntIteratorOfMerge implements IntIterator {
+    private final IntIterator[] iterators;
+    private final int[] heads;
+    private final boolean[] exhausted;
+    private final int[] tree;
+
+    /**
+     * Ctor.
+     *
+     * @param iterators iterators of elements in ascending order
+     * @throws NullPointerException if {@code iterators} or any of its elements is null
+     */
+    public IntIteratorOfMerge(final IntIterator... iterators) {
+        Objects.requireNonNull(iterators, "iterators is null");
+        final int count = iterators.length;
+        final IntIterator[] copy = new IntIterator[count];
+        for (int index = 0; index < count; ++index) {
+            copy[index] = Objects.requireNonNull(iterators[index], "iterators[" + index + "] is null");
+        }
+        this.iterators = copy;
+        this.heads = new int[count];
+        this.exhausted = new boolean[Math.max(count, 1)];
+        this.tree = new int[Math.max(count, 1)];
+        for (int index = 0; index < count; ++index) {
+            this.advance(index);
+        }
+        final int[] winners = new int[count * 2];
+        for (int index = 0; index < count; ++index) {
+            winners[count + index] = index;
+        }
+        for (int node = count - 1; node > 0; --node) {
+            final int left = winners[node * 2];
+            final int right = winners[node * 2 + 1];
+            if (this.beats(left, right)) {
+                winners[node] = left;
+                this.tree[node] = right;
+            } else {
+                winners[node] = right;
+                this.tree[node] = left;
+            }
+        }
+        if (count == 0) {
+            this.exhausted[0] = true;
+        } else {
+            this.tree[0] = winners[1];
+        }
+    }
+
+    private void advance(final int index) {
+        final IntIterator iterator = this.iterators[index];
+        if (iterator.hasNext()) {
+            this.heads[index] = iterator.next();
+        } else {
+            this.exhausted[index] = true;
+        }
+    }
+
+    private boolean beats(final int first, final int second) {
+        if (this.exhausted[first]) {
+            return false;
+        }
+        if (this.exhausted[second]) {
+            return true;
+        }
+        final int firstHead = this.heads[first];
+        final int secondHead = this.heads[second];
+        return firstHead < secondHead || firstHead == secondHead && first < second;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.exhausted[this.tree[0]];
+    }
+
+    @Override
+    public int next() {
+        final int[] tree = this.tree;
+        int winner = tree[0];
+        if (this.exhausted[winner]) {
+            throw new NoSuchElementException();
+        }
+        final int next = this.heads[winner];
+        this.advance(winner);
+        for (int node = (this.iterators.length + winner) >>> 1; node > 0; node >>>= 1) {
+            final int loser = tree[node];
+            if (this.beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        tree[0] = winner;
+        return next;
+    }
+
+    @Override
+    public long remaining() {
+        long remaining = 0L;
+        for (int index = 0; index < this.iterators.length; ++index) {
+            if (!this.exhausted[index]) {
+                final long iteratorRemaining = this.iterators[index].remaining();
+                if (iteratorRemaining < 0L) {
+                    return -1L;
+                }
+                remaining += iteratorRemaining + 1L;
+            }
+        }
+        return remaining;
+    }
+}
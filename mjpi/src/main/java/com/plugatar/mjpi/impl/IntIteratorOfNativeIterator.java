@@ -58,4 +58,14 @@ public final class IntIteratorOfNativeIterator implements IntIterator {
     public void forEachRemaining(final IntConsumer action) {
         this.origin.forEachRemaining(action);
     }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.origin.nextInt());
+            return true;
+        }
+        return false;
+    }
 }
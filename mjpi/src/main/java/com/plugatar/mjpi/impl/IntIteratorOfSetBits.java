@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterator} implementation over indexes of set bits of {@code long} array of bits.
+ * <p>
+ * The bit with index {@code n} is {@code (words[n / 64] & (1L << (n % 64))) != 0}, the same layout as
+ * {@link java.util.BitSet#toLongArray()} uses. Indexes are found with {@link Long#numberOfTrailingZeros(long)},
+ * so a word without set bits is skipped in one step.
+ */
+public final class IntIteratorOfSetBits implements IntIterator {
+    private final long[] words;
+    private final int toIndex;
+    private final int lastWordIndex;
+    private int wordIndex;
+    private long word;
+
+    /**
+     * Ctor.
+     *
+     * @param words words of bits
+     * @throws NullPointerException     if {@code words} is null
+     * @throws IllegalArgumentException if the number of bits is greater than {@code Integer.MAX_VALUE}
+     */
+    public IntIteratorOfSetBits(final long... words) {
+        this(words, 0, BooleanIteratorOfBits.bitsLength(words));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param words     words of bits
+     * @param fromIndex the index of the first bit to check, inclusive
+     * @param toIndex   the index of the last bit to check, exclusive
+     * @throws NullPointerException      if {@code words} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code words.length * 64} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public IntIteratorOfSetBits(final long[] words, final int fromIndex, final int toIndex) {
+        BooleanIteratorOfBits.checkRange(words, fromIndex, toIndex);
+        this.words = words;
+        this.toIndex = toIndex;
+        this.lastWordIndex = (toIndex - 1) >> 6;
+        if (fromIndex < toIndex) {
+            this.wordIndex = fromIndex >>> 6;
+            this.word = this.word(this.wordIndex) & (-1L << fromIndex);
+        } else {
+            this.wordIndex = this.lastWordIndex;
+            this.word = 0L;
+        }
+    }
+
+    private long word(final int wordIndex) {
+        final long word = this.words[wordIndex];
+        return wordIndex == this.lastWordIndex ? word & (-1L >>> -this.toIndex) : word;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.word == 0L) {
+            if (this.wordIndex >= this.lastWordIndex) {
+                return false;
+            }
+            this.word = this.word(++this.wordIndex);
+        }
+        return true;
+    }
+
+    @Override
+    public int next() {
+        if (this.hasNext()) {
+            final long word = this.word;
+            this.word = word & (word - 1L);
+            return (this.wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final int lastWordIndex = this.lastWordIndex;
+        int wordIndex = this.wordIndex;
+        long word = this.word;
+        this.wordIndex = lastWordIndex;
+        this.word = 0L;
+        while (true) {
+            while (word != 0L) {
+                action.accept((wordIndex << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1L;
+            }
+            if (wordIndex >= lastWordIndex) {
+                return;
+            }
+            word = this.word(++wordIndex);
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.hasNext()) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedIntIterator} implementation over elements contained in exactly one of two
+ * {@link IntIterator}s of elements in strictly ascending order.
+ * <p>
+ * {@link #advanceTo(int)} advances both iterators, iterators implementing {@link SortedIntIterator} skip
+ * elements without returning them. The first element of each iterator is read on construction.
+ */
+public final class IntIteratorOfSymmetricDifference implements SortedIntIterator {
+    private final SortedIntCursor first;
+    private final SortedIntCursor second;
+    private boolean hasNext;
+    private int next;
+
+    /**
+     * Ctor.
+     *
+     * @param first  the first iterator of elements in strictly ascending order
+     * @param second the second iterator of elements in strictly ascending order
+     * @throws NullPointerException if {@code first} or {@code second} is null
+     */
+    public IntIteratorOfSymmetricDifference(final IntIterator first, final IntIterator second) {
+        this.first = new SortedIntCursor(first, "first");
+        this.second = new SortedIntCursor(second, "second");
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedIntCursor first = this.first;
+        final SortedIntCursor second = this.second;
+        while (first.hasHead && second.hasHead && first.head == second.head) {
+            first.advance();
+            second.advance();
+        }
+        if (first.hasHead && (!second.hasHead || first.head < second.head)) {
+            this.hasNext = true;
+            this.next = first.head;
+        } else {
+            this.hasNext = second.hasHead;
+            this.next = second.head;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public int next() {
+        if (this.hasNext) {
+            final int next = this.next;
+            if (this.first.hasHead && this.first.head == next) {
+                this.first.advance();
+            } else {
+                this.second.advance();
+            }
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final int target) {
+        if (this.hasNext && this.next < target) {
+            this.first.advanceTo(target);
+            this.second.advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
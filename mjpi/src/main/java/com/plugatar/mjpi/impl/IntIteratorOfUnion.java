@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedIntIterator} implementation over the union of {@link IntIterator}s of elements
+ * in strictly ascending order.
+ * <p>
+ * Iterators are merged with a loser tree like {@link IntIteratorOfMerge}, so returning an element replays
+ * {@code log2(k)} matches for each of {@code k} iterators that contain it. Each element is returned once
+ * even if several iterators contain it. {@link #advanceTo(int)} advances every iterator and rebuilds the
+ * tree with {@code k} matches, iterators implementing {@link SortedIntIterator} skip elements without
+ * returning them. The first element of each iterator is read on construction.
+ */
+public final class IntIteratorOfUnion implements SortedIntIterator {
+    private final SortedIntCursor[] cursors;
+    private final int[] tree;
+    private boolean hasNext;
+    private int next;
+
+    /**
+     * Ctor.
+     *
+     * @param iterators iterators of elements in strictly ascending order
+     * @throws NullPointerException if {@code iterators} or any of its elements is null
+     */
+    public IntIteratorOfUnion(final IntIterator... iterators) {
+        this.cursors = SortedIntCursor.cursors(iterators);
+        this.tree = new int[Math.max(this.cursors.length, 1)];
+        this.build();
+    }
+
+    private void build() {
+        final SortedIntCursor[] cursors = this.cursors;
+        final int count = cursors.length;
+        if (count == 0) {
+            this.hasNext = false;
+            return;
+        }
+        final int[] winners = new int[count * 2];
+        for (int index = 0; index < count; ++index) {
+            winners[count + index] = index;
+        }
+        for (int node = count - 1; node > 0; --node) {
+            final int left = winners[node * 2];
+            final int right = winners[node * 2 + 1];
+            if (this.beats(left, right)) {
+                winners[node] = left;
+                this.tree[node] = right;
+            } else {
+                winners[node] = right;
+                this.tree[node] = left;
+            }
+        }
+        this.fetch(winners[1]);
+    }
+
+    private int replay(final int index) {
+        final int[] tree = this.tree;
+        int winner = index;
+        for (int node = (this.cursors.length + winner) >>> 1; node > 0; node >>>= 1) {
+            final int loser = tree[node];
+            if (this.beats(loser, winner)) {
+                tree[node] = winner;
+                winner = loser;
+            }
+        }
+        return winner;
+    }
+
+    private boolean beats(final int first, final int second) {
+        final SortedIntCursor firstCursor = this.cursors[first];
+        final SortedIntCursor secondCursor = this.cursors[second];
+        if (!firstCursor.hasHead) {
+            return false;
+        }
+        if (!secondCursor.hasHead) {
+            return true;
+        }
+        return firstCursor.head < secondCursor.head || firstCursor.head == secondCursor.head && first < second;
+    }
+
+    private void fetch(final int winner) {
+        this.tree[0] = winner;
+        final SortedIntCursor cursor = this.cursors[winner];
+        this.hasNext = cursor.hasHead;
+        this.next = cursor.head;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public int next() {
+        if (this.hasNext) {
+            final int next = this.next;
+            final SortedIntCursor[] cursors = this.cursors;
+            int winner = this.tree[0];
+            do {
+                cursors[winner].advance();
+                winner = this.replay(winner);
+            } while (cursors[winner].hasHead && cursors[winner].head == next);
+            this.fetch(winner);
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final int target) {
+        if (this.hasNext && this.next < target) {
+            for (final SortedIntCursor cursor : this.cursors) {
+                cursor.advanceTo(target);
+            }
+            this.build();
+        }
+        return this.hasNext;
+    }
+}
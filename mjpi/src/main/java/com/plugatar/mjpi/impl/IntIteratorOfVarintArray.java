@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterator} implementation that decodes unsigned or zigzag LEB128 varints of a {@code byte} array.
+ * <p>
+ * A varint consists of 1 to 5 bytes, 7 bits per byte starting from the least significant bits, the most
+ * significant bit of a byte is set if more bytes follow. Single byte varints are decoded without a loop.
+ * Malformed data causes {@link IllegalStateException}.
+ *
+ * @see ByteIteratorOfIntVarints
+ */
+public final class IntIteratorOfVarintArray implements IntIterator {
+    private final byte[] bytes;
+    private final int toIndex;
+    private final boolean zigzag;
+    private int pointer;
+
+    /**
+     * Ctor. Varints are decoded as unsigned.
+     *
+     * @param bytes the varints bytes
+     * @throws NullPointerException if {@code bytes} is null
+     */
+    public IntIteratorOfVarintArray(final byte... bytes) {
+        this(bytes, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bytes  the varints bytes
+     * @param zigzag {@code true} if varints are zigzag encoded signed values
+     * @throws NullPointerException if {@code bytes} is null
+     */
+    public IntIteratorOfVarintArray(final byte[] bytes, final boolean zigzag) {
+        this(bytes, 0, Objects.requireNonNull(bytes, "bytes is null").length, zigzag);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param bytes     the varints bytes
+     * @param fromIndex the index of the first byte, inclusive
+     * @param toIndex   the index of the last byte, exclusive
+     * @param zigzag    {@code true} if varints are zigzag encoded signed values
+     * @throws NullPointerException      if {@code bytes} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code bytes.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public IntIteratorOfVarintArray(final byte[] bytes, final int fromIndex, final int toIndex, final boolean zigzag) {
+        Objects.requireNonNull(bytes, "bytes is null");
+        if (fromIndex < 0 || toIndex > bytes.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", bytes length: " + bytes.length);
+        }
+        this.bytes = bytes;
+        this.toIndex = toIndex;
+        this.zigzag = zigzag;
+        this.pointer = fromIndex;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.toIndex;
+    }
+
+    @Override
+    public int next() {
+        final byte[] bytes = this.bytes;
+        final int toIndex = this.toIndex;
+        int index = this.pointer;
+        if (index >= toIndex) {
+            throw new NoSuchElementException();
+        }
+        byte item = bytes[index];
+        int value;
+        if (item >= 0) {
+            ++index;
+            value = item;
+        } else {
+            value = 0;
+            int shift = 0;
+            do {
+                if (index >= toIndex) {
+                    throw new IllegalStateException("varint is truncated");
+                }
+                if (shift > 28) {
+                    throw new IllegalStateException("varint is too long");
+                }
+                item = bytes[index++];
+                value |= (item & 0x7F) << shift;
+                shift += 7;
+            } while (item < 0);
+        }
+        this.pointer = index;
+        return this.zigzag ? (value >>> 1) ^ -(value & 1) : value;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        while (this.pointer < this.toIndex) {
+            action.accept(this.next());
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.toIndex) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
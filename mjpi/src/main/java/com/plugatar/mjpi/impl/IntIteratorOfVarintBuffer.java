@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * The {@link IntIterator} implementation that decodes unsigned or zigzag LEB128 varints of {@link ByteBuffer}.
+ * <p>
+ * A varint consists of 1 to 5 bytes, 7 bits per byte starting from the least significant bits, the most
+ * significant bit of a byte is set if more bytes follow. Single byte varints are decoded without a loop.
+ * The iterator reads bytes between the position and the limit that the buffer has at the moment of
+ * construction, the position of the given buffer is not changed. Malformed data causes
+ * {@link IllegalStateException}.
+ *
+ * @see ByteIteratorOfIntVarints
+ */
+public final class IntIteratorOfVarintBuffer implements IntIterator {
+    private final ByteBuffer buffer;
+    private final int limit;
+    private final boolean zigzag;
+    private int pointer;
+
+    /**
+     * Ctor. Varints are decoded as unsigned.
+     *
+     * @param buffer the varints buffer
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public IntIteratorOfVarintBuffer(final ByteBuffer buffer) {
+        this(buffer, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param buffer the varints buffer
+     * @param zigzag {@code true} if varints are zigzag encoded signed values
+     * @throws NullPointerException if {@code buffer} is null
+     */
+    public IntIteratorOfVarintBuffer(final ByteBuffer buffer, final boolean zigzag) {
+        this.buffer = Objects.requireNonNull(buffer, "buffer is null").duplicate();
+        this.limit = buffer.limit();
+        this.zigzag = zigzag;
+        this.pointer = buffer.position();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.pointer < this.limit;
+    }
+
+    @Override
+    public int next() {
+        final ByteBuffer buffer = this.buffer;
+        final int limit = this.limit;
+        int index = this.pointer;
+        if (index >= limit) {
+            throw new NoSuchElementException();
+        }
+        byte item = buffer.get(index);
+        int value;
+        if (item >= 0) {
+            ++index;
+            value = item;
+        } else {
+            value = 0;
+            int shift = 0;
+            do {
+                if (index >= limit) {
+                    throw new IllegalStateException("varint is truncated");
+                }
+                if (shift > 28) {
+                    throw new IllegalStateException("varint is too long");
+                }
+                item = buffer.get(index++);
+                value |= (item & 0x7F) << shift;
+                shift += 7;
+            } while (item < 0);
+        }
+        this.pointer = index;
+        return this.zigzag ? (value >>> 1) ^ -(value & 1) : value;
+    }
+
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        while (this.pointer < this.limit) {
+            action.accept(this.next());
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.pointer < this.limit) {
+            action.accept(this.next());
+            return true;
+        }
+        return false;
+    }
+}
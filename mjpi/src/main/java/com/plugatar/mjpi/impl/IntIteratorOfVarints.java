@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.IntIterator;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The {@link IntIterator} implementation that decodes unsigned or zigzag LEB128 varints of {@link ByteIterator}.
+ * <p>
+ * A varint consists of 1 to 5 bytes, 7 bits per byte starting from the least significant bits, the most
+ * significant bit of a byte is set if more bytes follow. Malformed data causes {@link IllegalStateException}.
+ * {@link IntIteratorOfVarintArray} and {@link IntIteratorOfVarintBuffer} decode arrays and buffers faster.
+ *
+ * @see ByteIteratorOfIntVarints
+ */
+public final class IntIteratorOfVarints implements IntIterator {
+    private final ByteIterator origin;
+    private final boolean zigzag;
+
+    /**
+     * Ctor. Varints are decoded as unsigned.
+     *
+     * @param origin the origin iterator of varints bytes
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public IntIteratorOfVarints(final ByteIterator origin) {
+        this(origin, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin the origin iterator of varints bytes
+     * @param zigzag {@code true} if varints are zigzag encoded signed values
+     * @throws NullPointerException if {@code origin} is null
+     */
+    public IntIteratorOfVarints(final ByteIterator origin, final boolean zigzag) {
+        this.origin = Objects.requireNonNull(origin, "origin is null");
+        this.zigzag = zigzag;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.origin.hasNext();
+    }
+
+    @Override
+    public int next() {
+        final ByteIterator origin = this.origin;
+        if (!origin.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        int value = 0;
+        int shift = 0;
+        byte item;
+        do {
+            if (!origin.hasNext()) {
+                throw new IllegalStateException("varint is truncated");
+            }
+            if (shift > 28) {
+                throw new IllegalStateException("varint is too long");
+            }
+            item = origin.next();
+            value |= (item & 0x7F) << shift;
+            shift += 7;
+        } while (item < 0);
+        return this.zigzag ? (value >>> 1) ^ -(value & 1) : value;
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterable;
+import com.plugatar.mjpi.LongIterator;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * The immutable {@link LongIterable} implementation based on a delta-encoded copy of a sorted {@code long}
+ * array.
+ * <p>
+ * Items are split into blocks of a fixed size. The first item of each block is stored as is, the others
+ * are stored as differences from the previous item packed in unsigned LEB128 varints, so a difference
+ * less than 128 takes 1 byte and a difference less than 16384 takes 2 bytes. Iterators decode blocks on
+ * the fly, {@link LongIterator#skip(long)} jumps over whole blocks without decoding them and the
+ * spliterator splits on block boundaries.
+ */
+public final class LongIterableOfDeltas implements LongIterable {
+    /**
+     * The default number of items in a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 128;
+    private static final int MIN_SPLIT_SIZE = 1024;
+    private final int size;
+    private final int blockSize;
+    private final long[] bases;
+    private final int[] offsets;
+    private final byte[] deltas;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array sorted in ascending order
+     * @throws NullPointerException     if {@code items} is null
+     * @throws IllegalArgumentException if {@code items} are not sorted in ascending order
+     */
+    public LongIterableOfDeltas(final long... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array sorted in ascending order
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws IllegalArgumentException  if {@code items} in the range are not sorted in ascending order
+     */
+    public LongIterableOfDeltas(final long[] items, final int fromIndex, final int toIndex) {
+        this(items, fromIndex, toIndex, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array sorted in ascending order
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @param blockSize the number of items in a block
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     * @throws IllegalArgumentException  if {@code blockSize} is not positive or if {@code items} in the
+     *                                   range are not sorted in ascending order
+     */
+    public LongIterableOfDeltas(final long[] items, final int fromIndex, final int toIndex, final int blockSize) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize is not positive");
+        }
+        final int size = toIndex - fromIndex;
+        final int blocks = (int) (((long) size + blockSize - 1) / blockSize);
+        final long[] bases = new long[blocks];
+        final int[] offsets = new int[blocks];
+        int length = 0;
+        for (int index = fromIndex; index < toIndex; ++index) {
+            final int position = index - fromIndex;
+            if (position != 0 && items[index] < items[index - 1]) {
+                throw new IllegalArgumentException("items are not sorted, index: " + index);
+            }
+            if (position % blockSize == 0) {
+                bases[position / blockSize] = items[index];
+                offsets[position / blockSize] = length;
+            } else {
+                length += varintLength(items[index] - items[index - 1]);
+            }
+        }
+        final byte[] deltas = new byte[length];
+        int pointer = 0;
+        for (int index = fromIndex; index < toIndex; ++index) {
+            if ((index - fromIndex) % blockSize != 0) {
+                long delta = items[index] - items[index - 1];
+                while ((delta & ~0x7FL) != 0L) {
+                    deltas[pointer++] = (byte) (delta | 0x80);
+                    delta >>>= 7;
+                }
+                deltas[pointer++] = (byte) delta;
+            }
+        }
+        this.size = size;
+        this.blockSize = blockSize;
+        this.bases = bases;
+        this.offsets = offsets;
+        this.deltas = deltas;
+    }
+
+    private static int varintLength(final long value) {
+        return (63 - Long.numberOfLeadingZeros(value | 1L)) / 7 + 1;
+    }
+
+    @Override
+    public LongIterator longIterator() {
+        return new BlockIterator(this.bases, this.offsets, this.deltas, this.blockSize, 0, this.size);
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new BlockSpliterator(this.bases, this.offsets, this.deltas, this.blockSize, 0, this.size);
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public void forEachLong(final LongConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        this.longIterator().forEachRemaining(action);
+    }
+
+    /**
+     * The iterator over the range of items that starts at a block boundary and decodes one block at a time.
+     */
+    private static final class BlockIterator implements LongIterator {
+        private final long[] bases;
+        private final int[] offsets;
+        private final byte[] deltas;
+        private final int blockSize;
+        private final int toIndex;
+        private int index;
+        private int blockEnd;
+        private int pointer;
+        private long previous;
+
+        private BlockIterator(final long[] bases, final int[] offsets, final byte[] deltas,
+                              final int blockSize, final int fromIndex, final int toIndex) {
+            this.bases = bases;
+            this.offsets = offsets;
+            this.deltas = deltas;
+            this.blockSize = blockSize;
+            this.toIndex = toIndex;
+            this.index = fromIndex;
+            this.blockEnd = fromIndex;
+            this.pointer = 0;
+            this.previous = 0L;
+        }
+
+        private long decode() {
+            final int index = this.index++;
+            if (index == this.blockEnd) {
+                final int block = index / this.blockSize;
+                this.blockEnd = index + this.blockSize;
+                this.pointer = this.offsets[block];
+                return this.previous = this.bases[block];
+            }
+            final byte[] deltas = this.deltas;
+            int pointer = this.pointer;
+            byte item = deltas[pointer++];
+            long delta = item & 0x7F;
+            for (int shift = 7; item < 0; shift += 7) {
+                item = deltas[pointer++];
+                delta |= (long) (item & 0x7F) << shift;
+            }
+            this.pointer = pointer;
+            return this.previous += delta;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.toIndex;
+        }
+
+        @Override
+        public long next() {
+            if (this.index < this.toIndex) {
+                return this.decode();
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            final long[] bases = this.bases;
+            final int[] offsets = this.offsets;
+            final byte[] deltas = this.deltas;
+            final int blockSize = this.blockSize;
+            final int toIndex = this.toIndex;
+            int index = this.index;
+            int blockEnd = this.blockEnd;
+            int pointer = this.pointer;
+            long previous = this.previous;
+            this.index = toIndex;
+            for (; index < toIndex; ++index) {
+                if (index == blockEnd) {
+                    final int block = index / blockSize;
+                    blockEnd = index + blockSize;
+                    pointer = offsets[block];
+                    previous = bases[block];
+                } else {
+                    byte item = deltas[pointer++];
+                    long delta = item & 0x7F;
+                    for (int shift = 7; item < 0; shift += 7) {
+                        item = deltas[pointer++];
+                        delta |= (long) (item & 0x7F) << shift;
+                    }
+                    previous += delta;
+                }
+                action.accept(previous);
+            }
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n < 0L) {
+                throw new IllegalArgumentException("n is negative");
+            }
+            final int count = (int) Math.min(n, this.toIndex - this.index);
+            final int target = this.index + count;
+            if (target >= this.blockEnd) {
+                final int blockStart = target - target % this.blockSize;
+                this.index = blockStart;
+                this.blockEnd = blockStart;
+            }
+            while (this.index < target) {
+                this.decode();
+            }
+            return count;
+        }
+
+        @Override
+        public long remaining() {
+            return this.toIndex - this.index;
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (this.index < this.toIndex) {
+                action.accept(this.decode());
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The spliterator over the range of items that splits the range in halves on block boundaries until
+     * it is started.
+     */
+    private static final class BlockSpliterator implements Spliterator.OfLong {
+        private final long[] bases;
+        private final int[] offsets;
+        private final byte[] deltas;
+        private final int blockSize;
+        private int fromIndex;
+        private final int toIndex;
+        private BlockIterator iterator;
+
+        private BlockSpliterator(final long[] bases, final int[] offsets, final byte[] deltas,
+                                 final int blockSize, final int fromIndex, final int toIndex) {
+            this.bases = bases;
+            this.offsets = offsets;
+            this.deltas = deltas;
+            this.blockSize = blockSize;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.iterator = null;
+        }
+
+        private BlockIterator iterator() {
+            BlockIterator iterator = this.iterator;
+            if (iterator == null) {
+                iterator = new BlockIterator(
+                        this.bases, this.offsets, this.deltas, this.blockSize, this.fromIndex, this.toIndex);
+                this.iterator = iterator;
+            }
+            return iterator;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final int from = this.fromIndex;
+            final int halfBlocks = (this.toIndex - from) / this.blockSize / 2;
+            final int middle = from + halfBlocks * this.blockSize;
+            if (this.iterator != null || middle - from < MIN_SPLIT_SIZE) {
+                return null;
+            }
+            this.fromIndex = middle;
+            return new BlockSpliterator(this.bases, this.offsets, this.deltas, this.blockSize, from, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            return this.iterator().tryAdvance(action);
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            this.iterator().forEachRemaining(action);
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.iterator == null ? this.toIndex - this.fromIndex : this.iterator.remaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED
+                    | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+        }
+
+        @Override
+        public Comparator<? super Long> getComparator() {
+            return null;
+        }
+    }
+}
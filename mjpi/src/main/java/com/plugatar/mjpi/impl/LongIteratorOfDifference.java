@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedLongIterator} implementation over elements of the minuend {@link LongIterator} that
+ * the subtrahend {@link LongIterator} does not contain, both in strictly ascending order.
+ * <p>
+ * The subtrahend is advanced to each element of the minuend, so a subtrahend implementing
+ * {@link SortedLongIterator}, such as {@link SortedLongIteratorOf} with its galloping search, skips its
+ * elements without returning them. The first element of each iterator is read on construction.
+ */
+public final class LongIteratorOfDifference implements SortedLongIterator {
+    private final SortedLongCursor minuend;
+    private final SortedLongCursor subtrahend;
+    private boolean hasNext;
+    private long next;
+
+    /**
+     * Ctor.
+     *
+     * @param minuend    the iterator of elements in strictly ascending order
+     * @param subtrahend the iterator of elements to exclude in strictly ascending order
+     * @throws NullPointerException if {@code minuend} or {@code subtrahend} is null
+     */
+    public LongIteratorOfDifference(final LongIterator minuend, final LongIterator subtrahend) {
+        this.minuend = new SortedLongCursor(minuend, "minuend");
+        this.subtrahend = new SortedLongCursor(subtrahend, "subtrahend");
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedLongCursor minuend = this.minuend;
+        final SortedLongCursor subtrahend = this.subtrahend;
+        while (minuend.hasHead) {
+            subtrahend.advanceTo(minuend.head);
+            if (!subtrahend.hasHead || subtrahend.head != minuend.head) {
+                this.hasNext = true;
+                this.next = minuend.head;
+                return;
+            }
+            minuend.advance();
+        }
+        this.hasNext = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public long next() {
+        if (this.hasNext) {
+            final long next = this.next;
+            this.minuend.advance();
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final long target) {
+        if (this.hasNext && this.next < target) {
+            this.minuend.advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
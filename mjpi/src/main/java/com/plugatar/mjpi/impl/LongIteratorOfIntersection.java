@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedLongIterator} implementation over the intersection of {@link LongIterator}s of elements
+ * in strictly ascending order.
+ * <p>
+ * Iterators are ordered by {@link LongIterator#remaining()} on construction, iterators with an unknown
+ * number of elements go last. Elements are found with a leapfrog search: starting from the iterator with
+ * the fewest elements, iterators take turns in a round robin to advance to the greatest element seen so
+ * far until all of them stop at the same element. Iterators implementing {@link SortedLongIterator}, such
+ * as {@link SortedLongIteratorOf} and {@link LongIterableOf#sortedLongIterator()} with their galloping
+ * search, skip elements without returning them, other iterators are scanned linearly. The intersection of
+ * zero iterators is empty. The first element of each iterator is read on construction.
+ */
+public final class LongIteratorOfIntersection implements SortedLongIterator {
+    private final SortedLongCursor[] cursors;
+    private boolean hasNext;
+    private long next;
+
+    /**
+     * Ctor.
+     *
+     * @param iterators iterators of elements in strictly ascending order
+     * @throws NullPointerException if {@code iterators} or any of its elements is null
+     */
+    public LongIteratorOfIntersection(final LongIterator... iterators) {
+        this.cursors = SortedLongCursor.cursors(iterators);
+        Arrays.sort(this.cursors, Comparator.comparingLong(SortedLongCursor::remaining));
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedLongCursor[] cursors = this.cursors;
+        final int count = cursors.length;
+        if (count == 0 || !cursors[0].hasHead) {
+            this.hasNext = false;
+            return;
+        }
+        long target = cursors[0].head;
+        int matched = 1;
+        for (int index = 1 % count; matched < count; index = index + 1 == count ? 0 : index + 1) {
+            final SortedLongCursor cursor = cursors[index];
+            cursor.advanceTo(target);
+            if (!cursor.hasHead) {
+                this.hasNext = false;
+                return;
+            }
+            if (cursor.head == target) {
+                ++matched;
+            } else {
+                target = cursor.head;
+                matched = 1;
+            }
+        }
+        this.hasNext = true;
+        this.next = target;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public long next() {
+        if (this.hasNext) {
+            final long next = this.next;
+            this.cursors[0].advance();
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final long target) {
+        if (this.hasNext && this.next < target) {
+            this.cursors[0].advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
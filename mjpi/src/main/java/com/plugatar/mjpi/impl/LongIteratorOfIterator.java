@@ -65,4 +65,14 @@ public final class LongIteratorOfIterator<T> implements LongIterator {
     public void forEachRemaining(final LongConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsLong(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsLong(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
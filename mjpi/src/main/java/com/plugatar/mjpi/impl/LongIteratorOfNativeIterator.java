@@ -58,4 +58,14 @@ public final class LongIteratorOfNativeIterator implements LongIterator {
     public void forEachRemaining(final LongConsumer action) {
         this.origin.forEachRemaining(action);
     }
+
+    @Override
+    public boolean tryAdvance(final LongConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.origin.nextLong());
+            return true;
+        }
+        return false;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link SortedLongIterator} implementation over elements contained in exactly one of two
+ * {@link LongIterator}s of elements in strictly ascending order.
+ * <p>
+ * {@link #advanceTo(long)} advances both iterators, iterators implementing {@link SortedLongIterator} skip
+ * elements without returning them. The first element of each iterator is read on construction.
+ */
+public final class LongIteratorOfSymmetricDifference implements SortedLongIterator {
+    private final SortedLongCursor first;
+    private final SortedLongCursor second;
+    private boolean hasNext;
+    private long next;
+
+    /**
+     * Ctor.
+     *
+     * @param first  the first iterator of elements in strictly ascending order
+     * @param second the second iterator of elements in strictly ascending order
+     * @throws NullPointerException if {@code first} or {@code second} is null
+     */
+    public LongIteratorOfSymmetricDifference(final LongIterator first, final LongIterator second) {
+        this.first = new SortedLongCursor(first, "first");
+        this.second = new SortedLongCursor(second, "second");
+        this.fetch();
+    }
+
+    private void fetch() {
+        final SortedLongCursor first = this.first;
+        final SortedLongCursor second = this.second;
+        while (first.hasHead && second.hasHead && first.head == second.head) {
+            first.advance();
+            second.advance();
+        }
+        if (first.hasHead && (!second.hasHead || first.head < second.head)) {
+            this.hasNext = true;
+            this.next = first.head;
+        } else {
+            this.hasNext = second.hasHead;
+            this.next = second.head;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.hasNext;
+    }
+
+    @Override
+    public long next() {
+        if (this.hasNext) {
+            final long next = this.next;
+            if (this.first.hasHead && this.first.head == next) {
+                this.first.advance();
+            } else {
+                this.second.advance();
+            }
+            this.fetch();
+            return next;
+        }
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean advanceTo(final long target) {
+        if (this.hasNext && this.next < target) {
+            this.first.advanceTo(target);
+            this.second.advanceTo(target);
+            this.fetch();
+        }
+        return this.hasNext;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjfi.ShortConsumer;
+import com.plugatar.mjpi.ShortIterable;
+import com.plugatar.mjpi.ShortIterator;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The immutable {@link ShortIterable} implementation based on a run-length encoded copy of {@code short} items.
+ * <p>
+ * Items are stored as runs, each run is a value and the number of its consecutive repetitions. Iterators
+ * expand runs lazily, {@link ShortIterator#skip(long)} moves over runs without expanding them.
+ */
+public final class ShortIterableOfRuns implements ShortIterable {
+    private final short[] values;
+    private final int[] ends;
+
+    /**
+     * Ctor.
+     *
+     * @param items the array to encode
+     * @throws NullPointerException if {@code items} is null
+     */
+    public ShortIterableOfRuns(final short... items) {
+        this(items, 0, Objects.requireNonNull(items, "items is null").length);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items     the array to encode
+     * @param fromIndex the index of the first item to iterate, inclusive
+     * @param toIndex   the index of the last item to iterate, exclusive
+     * @throws NullPointerException      if {@code items} is null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative, {@code toIndex} is greater
+     *                                   than {@code items.length} or {@code fromIndex} is greater
+     *                                   than {@code toIndex}
+     */
+    public ShortIterableOfRuns(final short[] items, final int fromIndex, final int toIndex) {
+        Objects.requireNonNull(items, "items is null");
+        if (fromIndex < 0 || toIndex > items.length || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", items length: " + items.length);
+        }
+        int runs = 0;
+        for (int index = fromIndex; index < toIndex; ++index) {
+            if (index == fromIndex || items[index] != items[index - 1]) {
+                ++runs;
+            }
+        }
+        final short[] values = new short[runs];
+        final int[] ends = new int[runs];
+        int run = -1;
+        for (int index = fromIndex; index < toIndex; ++index) {
+            if (index == fromIndex || items[index] != items[index - 1]) {
+                values[++run] = items[index];
+            }
+            ends[run] = index - fromIndex + 1;
+        }
+        this.values = values;
+        this.ends = ends;
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param values  values of runs
+     * @param lengths lengths of runs
+     * @throws NullPointerException     if {@code values} or {@code lengths} is null
+     * @throws IllegalArgumentException if {@code values} and {@code lengths} have different lengths, if any
+     *                                  of {@code lengths} is not positive or if the sum of {@code lengths}
+     *                                  is greater than {@code Integer.MAX_VALUE}
+     */
+    public ShortIterableOfRuns(final short[] values, final int[] lengths) {
+        Objects.requireNonNull(values, "values is null");
+        Objects.requireNonNull(lengths, "lengths is null");
+        if (values.length != lengths.length) {
+            throw new IllegalArgumentException(
+                    "values length: " + values.length + ", lengths length: " + lengths.length);
+        }
+        final int[] ends = new int[lengths.length];
+        long end = 0L;
+        for (int run = 0; run < lengths.length; ++run) {
+            if (lengths[run] <= 0) {
+                throw new IllegalArgumentException("run length is not positive, index: " + run);
+            }
+            end += lengths[run];
+            if (end > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("sum of lengths is greater than Integer.MAX_VALUE");
+            }
+            ends[run] = (int) end;
+        }
+        this.values = values.clone();
+        this.ends = ends;
+    }
+
+    /**
+     * Returns the number of runs.
+     *
+     * @return the number of runs
+     */
+    public int runs() {
+        return this.ends.length;
+    }
+
+    @Override
+    public ShortIterator shortIterator() {
+        return new RunIterator(this.values, this.ends);
+    }
+
+    @Override
+    public long size() {
+        final int[] ends = this.ends;
+        return ends.length == 0 ? 0L : ends[ends.length - 1];
+    }
+
+    @Override
+    public void forEachShort(final ShortConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        final short[] values = this.values;
+        final int[] ends = this.ends;
+        int index = 0;
+        for (int run = 0; run < ends.length; ++run) {
+            final short value = values[run];
+            for (final int end = ends[run]; index < end; ++index) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * The iterator that expands one run at a time.
+     */
+    private static final class RunIterator implements ShortIterator {
+        private final short[] values;
+        private final int[] ends;
+        private final int toIndex;
+        private int index;
+        private int run;
+
+        private RunIterator(final short[] values, final int[] ends) {
+            this.values = values;
+            this.ends = ends;
+            this.toIndex = ends.length == 0 ? 0 : ends[ends.length - 1];
+            this.index = 0;
+            this.run = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.index < this.toIndex;
+        }
+
+        @Override
+        public short next() {
+            final int index = this.index;
+            if (index < this.toIndex) {
+                this.index = index + 1;
+                if (index == this.ends[this.run]) {
+                    ++this.run;
+                }
+                return this.values[this.run];
+            }
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public void forEachRemaining(final ShortConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            final short[] values = this.values;
+            final int[] ends = this.ends;
+            int index = this.index;
+            int run = this.run;
+            this.index = this.toIndex;
+            this.run = Math.max(0, ends.length - 1);
+            for (; run < ends.length; ++run) {
+                final short value = values[run];
+                for (final int end = ends[run]; index < end; ++index) {
+                    action.accept(value);
+                }
+            }
+        }
+
+        @Override
+        public int next(final short[] array, final int offset, final int length) {
+            Objects.requireNonNull(array, "array is null");
+            if (offset < 0 || length < 0 || length > array.length - offset) {
+                throw new IndexOutOfBoundsException(
+                        "offset: " + offset + ", length: " + length + ", array length: " + array.length);
+            }
+            final int count = Math.min(length, this.toIndex - this.index);
+            final int toIndex = this.index + count;
+            int arrayIndex = offset;
+            while (this.index < toIndex) {
+                if (this.index == this.ends[this.run]) {
+                    ++this.run;
+                }
+                final int chunk = Math.min(toIndex, this.ends[this.run]) - this.index;
+                Arrays.fill(array, arrayIndex, arrayIndex + chunk, this.values[this.run]);
+                arrayIndex += chunk;
+                this.index += chunk;
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n < 0L) {
+                throw new IllegalArgumentException("n is negative");
+            }
+            final int count = (int) Math.min(n, this.toIndex - this.index);
+            final int index = this.index + count;
+            final int[] ends = this.ends;
+            int run = this.run;
+            while (run < ends.length - 1 && ends[run] < index) {
+                ++run;
+            }
+            this.index = index;
+            this.run = run;
+            return count;
+        }
+
+        @Override
+        public long remaining() {
+            return this.toIndex - this.index;
+        }
+
+        @Override
+        public boolean tryAdvance(final ShortConsumer action) {
+            Objects.requireNonNull(action, "action is null");
+            if (this.index < this.toIndex) {
+                action.accept(this.next());
+                return true;
+            }
+            return false;
+        }
+    }
+}
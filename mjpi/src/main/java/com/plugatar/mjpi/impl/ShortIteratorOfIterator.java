@@ -65,4 +65,14 @@ public final class ShortIteratorOfIterator<T> implements ShortIterator {
     public void forEachRemaining(final ShortConsumer action) {
         this.origin.forEachRemaining(obj -> action.accept(this.conversionFunction.applyAsShort(obj)));
     }
+
+    @Override
+    public boolean tryAdvance(final ShortConsumer action) {
+        Objects.requireNonNull(action, "action is null");
+        if (this.origin.hasNext()) {
+            action.accept(this.conversionFunction.applyAsShort(this.origin.next()));
+            return true;
+        }
+        return false;
+    }
 }
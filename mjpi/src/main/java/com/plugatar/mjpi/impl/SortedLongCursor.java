@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
+
+import java.util.Objects;
+
+/**
+ * The head of an ascending {@link LongIterator} used by sorted-set iterators. Advancing to a target uses
+ * {@link SortedLongIterator#advanceTo(long)} if the iterator supports it and falls back to a linear scan.
+ */
+final class SortedLongCursor {
+    private final LongIterator iterator;
+    private final SortedLongIterator sorted;
+    boolean hasHead;
+    long head;
+
+    SortedLongCursor(final LongIterator iterator, final String name) {
+        this.iterator = Objects.requireNonNull(iterator, name + " is null");
+        this.sorted = iterator instanceof SortedLongIterator ? (SortedLongIterator) iterator : null;
+        this.advance();
+    }
+
+    static SortedLongCursor[] cursors(final LongIterator[] iterators) {
+        Objects.requireNonNull(iterators, "iterators is null");
+        final SortedLongCursor[] cursors = new SortedLongCursor[iterators.length];
+        for (int index = 0; index < iterators.length; ++index) {
+            cursors[index] = new SortedLongCursor(iterators[index], "iterators[" + index + "]");
+        }
+        return cursors;
+    }
+
+    long remaining() {
+        if (!this.hasHead) {
+            return 0L;
+        }
+        final long remaining = this.iterator.remaining();
+        return remaining < 0L ? Long.MAX_VALUE : remaining;
+    }
+
+    void advance() {
+        final LongIterator iterator = this.iterator;
+        this.hasHead = iterator.hasNext();
+        if (this.hasHead) {
+            this.head = iterator.next();
+        }
+    }
+
+    void advanceTo(final long target) {
+        if (!this.hasHead || this.head >= target) {
+            return;
+        }
+        final SortedLongIterator sorted = this.sorted;
+        if (sorted == null) {
+            do {
+                this.advance();
+            } while (this.hasHead && this.head < target);
+        } else if (sorted.advanceTo(target)) {
+            this.head = sorted.next();
+        } else {
+            this.hasHead = false;
+        }
+    }
+}
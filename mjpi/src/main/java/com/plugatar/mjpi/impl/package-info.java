@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Iterators and Iterables implementations.
+ *
+ * <br><table>
+ * <caption>List of implementations</caption>
+ * <tr><th> </th><th> Implementation </th><th> Interface </th><th> Based on </th></tr>
+ *
+ * <tr><td> byte </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfByteIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterable} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntSpliteratorOfByteArray} </td><td>
+ * {@link java.util.Spliterator.OfInt} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterable} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link java.nio.ByteBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterable} </td><td> {@link java.nio.ByteBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfInputStream} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link java.io.InputStream} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfChannel} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link java.nio.channels.ReadableByteChannel} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfIntVarints} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIteratorOfLongVarints} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ByteIterableOfRuns} </td><td>
+ * {@link com.plugatar.mjpi.ByteIterable} </td><td> {@code byte[]} </td></tr>
+ *
+ * <tr><td> short </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@code short[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfShortIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterable} </td><td> {@code short[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntSpliteratorOfShortArray} </td><td>
+ * {@link java.util.Spliterator.OfInt} </td><td> {@code short[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@code short[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterable} </td><td> {@code short[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterator} </td><td> {@link java.nio.ShortBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterable} </td><td> {@link java.nio.ShortBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.ShortIterableOfRuns} </td><td>
+ * {@link com.plugatar.mjpi.ShortIterable} </td><td> {@code short[]} </td></tr>
+ *
+ * <tr><td> int </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfIntIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfNativeIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.util.PrimitiveIterator.OfInt} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.NativeIteratorOfIntIterator} </td><td>
+ * {@link java.util.PrimitiveIterator.OfInt} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.nio.IntBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@link java.nio.IntBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIterableOfMappedFile} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@link java.nio.file.Path} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CodePointIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CodePointIteratorOfCharSequence} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.lang.CharSequence} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfVarints} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfVarintArray} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfVarintBuffer} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link java.nio.ByteBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIterableOfBitPacked} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfSetBits} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIterableOfRoaring} </td><td>
+ * {@link com.plugatar.mjpi.IntIterable} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfUnion} </td><td>
+ * {@link com.plugatar.mjpi.SortedIntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfIntersection} </td><td>
+ * {@link com.plugatar.mjpi.SortedIntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfDifference} </td><td>
+ * {@link com.plugatar.mjpi.SortedIntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfSymmetricDifference} </td><td>
+ * {@link com.plugatar.mjpi.SortedIntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.SortedIntIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.SortedIntIterator} </td><td> {@code int[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntIteratorOfMerge} </td><td>
+ * {@link com.plugatar.mjpi.IntIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ *
+ * <tr><td> long </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfLongIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfNativeIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link java.util.PrimitiveIterator.OfLong} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.NativeIteratorOfLongIterator} </td><td>
+ * {@link java.util.PrimitiveIterator.OfLong} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link java.nio.LongBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@link java.nio.LongBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIterableOfMappedFile} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@link java.nio.file.Path} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfVarints} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfVarintArray} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@code byte[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfVarintBuffer} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link java.nio.ByteBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIterableOfDeltas} </td><td>
+ * {@link com.plugatar.mjpi.LongIterable} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfUnion} </td><td>
+ * {@link com.plugatar.mjpi.SortedLongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfIntersection} </td><td>
+ * {@link com.plugatar.mjpi.SortedLongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfDifference} </td><td>
+ * {@link com.plugatar.mjpi.SortedLongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfSymmetricDifference} </td><td>
+ * {@link com.plugatar.mjpi.SortedLongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.SortedLongIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.SortedLongIterator} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.LongIteratorOfMerge} </td><td>
+ * {@link com.plugatar.mjpi.LongIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ *
+ * <tr><td> float </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@code float[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfFloatIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterable} </td><td> {@code float[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleSpliteratorOfFloatArray} </td><td>
+ * {@link java.util.Spliterator.OfDouble} </td><td> {@code float[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@code float[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterable} </td><td> {@code float[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterator} </td><td> {@link java.nio.FloatBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.FloatIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.FloatIterable} </td><td> {@link java.nio.FloatBuffer} </td></tr>
+ *
+ * <tr><td> double </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@code double[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfDoubleIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfNativeIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link java.util.PrimitiveIterator.OfDouble} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.NativeIteratorOfDoubleIterator} </td><td>
+ * {@link java.util.PrimitiveIterator.OfDouble} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterable} </td><td> {@code double[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@code double[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterable} </td><td> {@code double[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link java.nio.DoubleBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterable} </td><td> {@link java.nio.DoubleBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIterableOfMappedFile} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterable} </td><td> {@link java.nio.file.Path} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.DoubleIteratorOfMerge} </td><td>
+ * {@link com.plugatar.mjpi.DoubleIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ *
+ * <tr><td> char </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@code char[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfCharIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.CharIterable} </td><td> {@code char[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IntSpliteratorOfCharArray} </td><td>
+ * {@link java.util.Spliterator.OfInt} </td><td> {@code char[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfBooleanIterator} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@code char[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.CharIterable} </td><td> {@code char[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link java.nio.CharBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIterableOfBuffer} </td><td>
+ * {@link com.plugatar.mjpi.CharIterable} </td><td> {@link java.nio.CharBuffer} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfCharSequence} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link java.lang.CharSequence} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIterableOfCharSequence} </td><td>
+ * {@link com.plugatar.mjpi.CharIterable} </td><td> {@link java.lang.CharSequence} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.CharIteratorOfReader} </td><td>
+ * {@link com.plugatar.mjpi.CharIterator} </td><td> {@link java.io.Reader} </td></tr>
+ *
+ * <tr><td> boolean </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@code boolean[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link java.util.Iterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.IteratorOfBooleanIterator} </td><td>
+ * {@link java.util.Iterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterable} </td><td> {@code boolean[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorPipeline} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfByteIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.ByteIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfShortIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.ShortIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfIntIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.IntIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfLongIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.LongIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfFloatIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.FloatIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfDoubleIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.DoubleIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfCharIterator} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.CharIterator} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanStridedIteratorOf} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@code boolean[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanStridedIterableOf} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterable} </td><td> {@code boolean[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIteratorOfBits} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIterableOfBits} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterable} </td><td> {@code long[]} </td></tr>
+ * <tr><td> </td><td> {@link com.plugatar.mjpi.impl.BooleanIterableOfRuns} </td><td>
+ * {@link com.plugatar.mjpi.BooleanIterable} </td><td> {@code boolean[]} </td></tr>
+ * </table>
+ */
+package com.plugatar.mjpi.impl;
@@ -31,6 +31,10 @@
  * <tr><td> char      </td><td> {@link com.plugatar.mjpi.CharIterator}    </td><td> {@link com.plugatar.mjpi.CharIterable}    </td></tr>
  * <tr><td> boolean   </td><td> {@link com.plugatar.mjpi.BooleanIterator} </td><td> {@link com.plugatar.mjpi.BooleanIterable} </td></tr>
  * </table>
+ * <br>
+ * {@link com.plugatar.mjpi.SortedIntIterator} and {@link com.plugatar.mjpi.SortedLongIterator} extend
+ * {@link com.plugatar.mjpi.IntIterator} and {@link com.plugatar.mjpi.LongIterator} for elements in strictly
+ * ascending order and add {@code advanceTo} to skip elements less than a target.
  *
  * @see com.plugatar.mjpi.impl Implementations
  * @see <a href="https://github.com/evpl/mjpi">GitHub repository</a>
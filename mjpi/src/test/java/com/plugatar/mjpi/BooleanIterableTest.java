@@ -72,4 +72,35 @@ final class BooleanIterableTest {
         assertThat(items)
                 .containsExactly(false, true);
     }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final BooleanIterable iterable = new BooleanIterable() {
+            @Override
+            public BooleanIterator booleanIterator() {
+                return new BooleanIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final BooleanIterable iterable = new BooleanIterable() {
+            @Override
+            public BooleanIterator booleanIterator() {
+                return new BooleanIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
 }
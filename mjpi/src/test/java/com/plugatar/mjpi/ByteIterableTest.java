@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.ByteConsumer;
+import com.plugatar.mjpi.impl.ByteIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIterable}.
+ * <br/>Also used: {@link ByteIteratorOf}.
+ */
+final class ByteIterableTest {
+
+    @Test
+    void forEachByteMethodThrowsNPEForNullArg() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachByte(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachByteMethodIterateOver0Items() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachByte(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachByteMethodIterateOverMultipleItems() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf((byte) 1, (byte) 2);
+            }
+        };
+        final List<Byte> items = new ArrayList<>();
+        iterable.forEachByte(items::add);
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public byte next() {
+                        return (byte) this.pointer++;
+                    }
+                };
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Integer> items = new ArrayList<>();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+            }
+        };
+        assertThat(iterable.intStream().toArray())
+                .containsExactly(1, 2, 3);
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intSpliteratorTryAdvanceMethodUsesIteratorTryAdvance() {
+        final ByteIterable iterable = new ByteIterable() {
+            @Override
+            public ByteIterator byteIterator() {
+                return new ByteIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public byte next() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public boolean tryAdvance(final ByteConsumer action) {
+                        action.accept((byte) 1);
+                        return true;
+                    }
+                };
+            }
+        };
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterable.intSpliterator().tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1);
+    }
+}
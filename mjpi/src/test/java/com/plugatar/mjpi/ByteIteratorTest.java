@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIterator}.
+ */
+final class ByteIteratorTest {
+
+    @Test
+    void removeMethodThrowsUnsupportedOperationException() {
+        final ByteIterator iterator = new ByteIterator() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) 1;
+            }
+        };
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIterator() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) 1;
+            }
+        };
+        assertThatCode(() -> iterator.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOver0Items() {
+        final ByteIterator iterator = new ByteIterator() {
+            @Override
+            public boolean hasNext() {
+                return false;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) 1;
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterator.forEachRemaining(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer == 1 || this.pointer == 2;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    void nextArrayMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        assertThatCode(() -> iterator.next(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextArrayMethodThrowsIOOBEForInvalidRange() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        final byte[] array = new byte[2];
+        assertThatCode(() -> iterator.next(array, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 0, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        final byte[] array = new byte[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly((byte) 0, (byte) 1, (byte) 2, (byte) 0);
+        assertThat(iterator.next(array, 0, 4))
+                .isEqualTo(1);
+        assertThat(array)
+                .containsExactly((byte) 3, (byte) 1, (byte) 2, (byte) 0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodThrowsIAEForNegativeArg() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 3);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void remainingMethodReturnsMinus1() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        assertThat(iterator.remaining())
+                .isEqualTo(-1L);
+    }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIterator() {
+            private int pointer = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.pointer <= 3;
+            }
+
+            @Override
+            public byte next() {
+                return (byte) this.pointer++;
+            }
+        };
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2, (byte) 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.CharConsumer;
+import com.plugatar.mjpi.impl.CharIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIterable}.
+ * <br/>Also used: {@link CharIteratorOf}.
+ */
+final class CharIterableTest {
+
+    @Test
+    void forEachCharMethodThrowsNPEForNullArg() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachChar(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachCharMethodIterateOver0Items() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachChar(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachCharMethodIterateOverMultipleItems() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf('1', '2');
+            }
+        };
+        final List<Character> items = new ArrayList<>();
+        iterable.forEachChar(items::add);
+        assertThat(items)
+                .containsExactly('1', '2');
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf('1', '2', '3');
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly((int) '1', (int) '2', (int) '3');
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public char next() {
+                        return Character.forDigit(this.pointer++, 10);
+                    }
+                };
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Integer> items = new ArrayList<>();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly((int) '1', (int) '2', (int) '3');
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIteratorOf('1', '2', '3');
+            }
+        };
+        assertThat(iterable.intStream().toArray())
+                .containsExactly('1', '2', '3');
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly('1', '2', '3');
+    }
+
+    @Test
+    void intSpliteratorTryAdvanceMethodUsesIteratorTryAdvance() {
+        final CharIterable iterable = new CharIterable() {
+            @Override
+            public CharIterator charIterator() {
+                return new CharIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public char next() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public boolean tryAdvance(final CharConsumer action) {
+                        action.accept((char) 1);
+                        return true;
+                    }
+                };
+            }
+        };
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterable.intSpliterator().tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1);
+    }
+}
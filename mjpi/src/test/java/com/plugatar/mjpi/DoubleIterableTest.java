@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjpi.impl.DoubleIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIterable}.
+ * <br/>Also used: {@link DoubleIteratorOf}.
+ */
+final class DoubleIterableTest {
+
+    @Test
+    void forEachDoubleMethodThrowsNPEForNullArg() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachDoubleMethodIterateOver0Items() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachDouble(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachDoubleMethodIterateOverMultipleItems() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf(1.0, 2.0);
+            }
+        };
+        final List<Double> items = new ArrayList<>();
+        iterable.forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void spliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf(1.0, 2.0, 3.0);
+            }
+        };
+        final Spliterator.OfDouble spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((DoubleConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((DoubleConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void spliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public double next() {
+                        return this.pointer++;
+                    }
+                };
+            }
+        };
+        final Spliterator.OfDouble spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Double> items = new ArrayList<>();
+        spliterator.forEachRemaining((DoubleConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void streamMethodsReturnStreamsOverItems() {
+        final DoubleIterable iterable = new DoubleIterable() {
+            @Override
+            public DoubleIterator doubleIterator() {
+                return new DoubleIteratorOf(1.0, 2.0, 3.0);
+            }
+        };
+        assertThat(iterable.stream().toArray())
+                .containsExactly(1.0, 2.0, 3.0);
+        assertThat(iterable.parallelStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.FloatConsumer;
+import com.plugatar.mjpi.impl.FloatIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatIterable}.
+ * <br/>Also used: {@link FloatIteratorOf}.
+ */
+final class FloatIterableTest {
+
+    @Test
+    void forEachFloatMethodThrowsNPEForNullArg() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachFloat(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachFloatMethodIterateOver0Items() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachFloat(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachFloatMethodIterateOverMultipleItems() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf(1.0f, 2.0f);
+            }
+        };
+        final List<Float> items = new ArrayList<>();
+        iterable.forEachFloat(items::add);
+        assertThat(items)
+                .containsExactly(1.0f, 2.0f);
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void doubleSpliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf(1.0f, 2.0f, 3.0f);
+            }
+        };
+        final Spliterator.OfDouble spliterator = iterable.doubleSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((DoubleConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((DoubleConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void doubleSpliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public float next() {
+                        return this.pointer++;
+                    }
+                };
+            }
+        };
+        final Spliterator.OfDouble spliterator = iterable.doubleSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Double> items = new ArrayList<>();
+        spliterator.forEachRemaining((DoubleConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void doubleStreamMethodsReturnStreamsOverItems() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIteratorOf(1.0f, 2.0f, 3.0f);
+            }
+        };
+        assertThat(iterable.doubleStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0);
+        assertThat(iterable.parallelDoubleStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void doubleSpliteratorTryAdvanceMethodUsesIteratorTryAdvance() {
+        final FloatIterable iterable = new FloatIterable() {
+            @Override
+            public FloatIterator floatIterator() {
+                return new FloatIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public float next() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public boolean tryAdvance(final FloatConsumer action) {
+                        action.accept(1.0f);
+                        return true;
+                    }
+                };
+            }
+        };
+        final List<Double> items = new ArrayList<>();
+        assertThat(iterable.doubleSpliterator().tryAdvance((DoubleConsumer) items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0);
+    }
+}
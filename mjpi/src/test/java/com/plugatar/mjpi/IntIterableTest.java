@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjpi.impl.IntIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIterable}.
+ * <br/>Also used: {@link IntIteratorOf}.
+ */
+final class IntIterableTest {
+
+    @Test
+    void forEachIntMethodThrowsNPEForNullArg() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachInt(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachIntMethodIterateOver0Items() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachInt(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachIntMethodIterateOverMultipleItems() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf(1, 2);
+            }
+        };
+        final List<Integer> items = new ArrayList<>();
+        iterable.forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(1, 2);
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void spliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf(1, 2, 3);
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void spliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public int next() {
+                        return this.pointer++;
+                    }
+                };
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Integer> items = new ArrayList<>();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void streamMethodsReturnStreamsOverItems() {
+        final IntIterable iterable = new IntIterable() {
+            @Override
+            public IntIterator intIterator() {
+                return new IntIteratorOf(1, 2, 3);
+            }
+        };
+        assertThat(iterable.stream().toArray())
+                .containsExactly(1, 2, 3);
+        assertThat(iterable.parallelStream().toArray())
+                .containsExactly(1, 2, 3);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi;
+
+import com.plugatar.mjfi.ShortConsumer;
+import com.plugatar.mjpi.impl.ShortIteratorOf;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIterable}.
+ * <br/>Also used: {@link ShortIteratorOf}.
+ */
+final class ShortIterableTest {
+
+    @Test
+    void forEachShortMethodThrowsNPEForNullArg() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf();
+            }
+        };
+        assertThatCode(() -> iterable.forEachShort(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachShortMethodIterateOver0Items() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf();
+            }
+        };
+        final AtomicBoolean isExecuted = new AtomicBoolean();
+        iterable.forEachShort(item -> isExecuted.set(true));
+        assertThat(isExecuted.get())
+                .isFalse();
+    }
+
+    @Test
+    void forEachShortMethodIterateOverMultipleItems() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf((short) 1, (short) 2);
+            }
+        };
+        final List<Short> items = new ArrayList<>();
+        iterable.forEachShort(items::add);
+        assertThat(items)
+                .containsExactly((short) 1, (short) 2);
+    }
+
+    @Test
+    void sizeMethodsReturnUnknownSize() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf();
+            }
+        };
+        assertThat(iterable.size())
+                .isEqualTo(-1L);
+        assertThat(iterable.isSizeKnown())
+                .isFalse();
+    }
+
+    @Test
+    void isSizeKnownMethodReturnsTrueForKnownSize() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf();
+            }
+
+            @Override
+            public long size() {
+                return 0L;
+            }
+        };
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSizedSpliteratorForKnownSize() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf((short) 1, (short) 2, (short) 3);
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsUnsizedSpliteratorForUnknownSize() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIterator() {
+                    private int pointer = 1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.pointer <= 3;
+                    }
+
+                    @Override
+                    public short next() {
+                        return (short) this.pointer++;
+                    }
+                };
+            }
+        };
+        final Spliterator.OfInt spliterator = iterable.intSpliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED))
+                .isFalse();
+        final List<Integer> items = new ArrayList<>();
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIteratorOf((short) 1, (short) 2, (short) 3);
+            }
+        };
+        assertThat(iterable.intStream().toArray())
+                .containsExactly(1, 2, 3);
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void intSpliteratorTryAdvanceMethodUsesIteratorTryAdvance() {
+        final ShortIterable iterable = new ShortIterable() {
+            @Override
+            public ShortIterator shortIterator() {
+                return new ShortIterator() {
+                    @Override
+                    public boolean hasNext() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public short next() {
+                        throw new UnsupportedOperationException();
+                    }
+
+                    @Override
+                    public boolean tryAdvance(final ShortConsumer action) {
+                        action.accept((short) 1);
+                        return true;
+                    }
+                };
+            }
+        };
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterable.intSpliterator().tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterable;
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIterableOfBits}.
+ */
+final class BooleanIterableOfBitsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIterableOfBits((long[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanIterableOfBits(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] words = new long[1];
+        assertThatCode(() -> new BooleanIterableOfBits(words, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOfBits(words, 0, 65))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOfBits(words, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final BooleanIterable iterable = new BooleanIterableOfBits(new long[]{0b0110L}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Boolean> items = new ArrayList<>();
+        iterable.forEachBoolean(items::add);
+        iterable.booleanIterator().forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(true, true, false, true, true, false);
+    }
+
+    @Test
+    void setBitsIteratorMethodReturnsIndexesOfSetBitsInRange() {
+        final BooleanIterableOfBits iterable = new BooleanIterableOfBits(new long[]{0b0111L, 1L}, 1, 65);
+        final IntIterator iterator = iterable.setBitsIterator();
+        final List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 64);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterable;
+import com.plugatar.mjpi.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIterableOfRuns}.
+ */
+final class BooleanIterableOfRunsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new BooleanIterableOfRuns((boolean[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(null, new int[0]))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(new boolean[0], null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final boolean[] items = {true, false};
+        assertThatCode(() -> new BooleanIterableOfRuns(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidRuns() {
+        final boolean[] values = {true, false};
+        assertThatCode(() -> new BooleanIterableOfRuns(values, new int[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(values, new int[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new BooleanIterableOfRuns(values, new int[]{Integer.MAX_VALUE, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final BooleanIterable iterable = new BooleanIterableOfRuns();
+        assertThat(iterable.size())
+                .isEqualTo(0L);
+        final BooleanIterator iterator = iterable.booleanIterator();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void encodeItemsIntoRuns() {
+        final boolean[] items = {false, true, true, true, false, false, true};
+        final BooleanIterableOfRuns iterable = new BooleanIterableOfRuns(items, 1, 7);
+        assertThat(iterable.runs())
+                .isEqualTo(3);
+        assertThat(iterable.size())
+                .isEqualTo(6L);
+        final List<Boolean> forEachItems = new ArrayList<>();
+        iterable.forEachBoolean(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(true, true, true, false, false, true);
+        final List<Boolean> iteratorItems = new ArrayList<>();
+        final BooleanIterator iterator = iterable.booleanIterator();
+        while (iterator.hasNext()) {
+            iteratorItems.add(iterator.next());
+        }
+        assertThat(iteratorItems)
+                .containsExactly(true, true, true, false, false, true);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverGivenRuns() {
+        final BooleanIterator iterator = new BooleanIterableOfRuns(
+                new boolean[]{true, false, true}, new int[]{2, 3, 1}
+        ).booleanIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(6L);
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        final List<Boolean> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(true, false, false, false, true);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodExpandsRuns() {
+        final BooleanIterator iterator = new BooleanIterableOfRuns(
+                new boolean[]{true, false, true}, new int[]{2, 3, 2}
+        ).booleanIterator();
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        final boolean[] array = new boolean[7];
+        assertThat(iterator.next(array, 1, 4))
+                .isEqualTo(4);
+        assertThat(iterator.next(array, 5, 2))
+                .isEqualTo(2);
+        array[0] = true;
+        assertThat(array)
+                .containsExactly(true, true, false, false, false, true, true);
+        assertThat(iterator.next(array, 0, 7))
+                .isEqualTo(0);
+        assertThatCode(() -> iterator.next(array, 6, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodMovesOverRuns() {
+        final BooleanIterator iterator = new BooleanIterableOfRuns(
+                new boolean[]{true, false, true, false}, new int[]{2, 3, 1, 4}
+        ).booleanIterator();
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        assertThat(iterator.skip(3L))
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
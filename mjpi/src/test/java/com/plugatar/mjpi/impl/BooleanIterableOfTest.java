@@ -124,4 +124,57 @@ final class BooleanIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final BooleanIterable iterable = new BooleanIterableOf(true, false, false);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new BooleanIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final BooleanIterator iterator = new BooleanIterableOf(true, false, false).booleanIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final boolean[] items = new boolean[2];
+        assertThatCode(() -> new BooleanIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final BooleanIterable iterable = new BooleanIterableOf(new boolean[]{true, false, false, true, true}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Boolean> forEachItems = new ArrayList<>();
+        iterable.forEachBoolean(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(false, false, true);
+        final List<Boolean> iteratorItems = new ArrayList<>();
+        iterable.booleanIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly(false, false, true);
+    }
 }
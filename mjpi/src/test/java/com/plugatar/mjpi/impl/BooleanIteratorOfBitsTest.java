@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIteratorOfBits}.
+ */
+final class BooleanIteratorOfBitsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIteratorOfBits((long[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanIteratorOfBits(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] words = new long[2];
+        assertThatCode(() -> new BooleanIteratorOfBits(words, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIteratorOfBits(words, 0, 129))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIteratorOfBits(words, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nextMethodReturnsBits() {
+        final BooleanIterator iterator = new BooleanIteratorOfBits(new long[]{1L << 63, 0b10L}, 62, 66);
+        final List<Boolean> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(false, true, false, true);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodReturnsBits() {
+        final BooleanIterator iterator = new BooleanIteratorOfBits(0b1011L, 1L, -1L);
+        assertThat(iterator.remaining())
+                .isEqualTo(192L);
+        assertThat(iterator.next())
+                .isTrue();
+        final List<Boolean> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .hasSize(191)
+                .startsWith(true, false, true, false)
+                .containsSequence(false, false, true, false)
+                .endsWith(true, true, true);
+        assertThat(items.stream().filter(item -> item).count())
+                .isEqualTo(67L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void nextArrayMethodCopiesBits() {
+        final BooleanIterator iterator = new BooleanIteratorOfBits(new long[]{1L << 63, 0b11L}, 1, 128);
+        final boolean[] array = new boolean[66];
+        assertThat(iterator.skip(61L))
+                .isEqualTo(61L);
+        assertThat(iterator.next(array, 1, 65))
+                .isEqualTo(65);
+        assertThat(array[0])
+                .isFalse();
+        assertThat(array[2])
+                .isTrue();
+        assertThat(array[3])
+                .isTrue();
+        assertThat(array[4])
+                .isTrue();
+        assertThat(array[5])
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(1L);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodReturnsBits() {
+        final BooleanIterator iterator = new BooleanIteratorOfBits(new long[]{0b10L}, 0, 2);
+        final List<Boolean> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(false, true);
+    }
+}
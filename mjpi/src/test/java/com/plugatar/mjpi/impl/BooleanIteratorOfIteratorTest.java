@@ -128,4 +128,31 @@ final class BooleanIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final BooleanIterator iterator = new BooleanIteratorOfIterator<>(Arrays.asList(true, false, false).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final BooleanIterator iterator = new BooleanIteratorOfIterator<>(Arrays.asList(true, false, false).iterator(), i -> i);
+        final List<Boolean> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(true);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(true, false);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(true, false);
+    }
 }
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.DoubleIterator;
+import com.plugatar.mjpi.FloatIterator;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIteratorOfByteIterator}, {@link BooleanIteratorOfShortIterator},
+ * {@link BooleanIteratorOfIntIterator}, {@link BooleanIteratorOfLongIterator}, {@link BooleanIteratorOfFloatIterator},
+ * {@link BooleanIteratorOfDoubleIterator}, {@link BooleanIteratorOfCharIterator}.
+ */
+final class BooleanIteratorOfPrimitiveIteratorsTest {
+
+    private static Stream<ConversionCase<?, BooleanIterator>> cases() {
+        return Stream.of(
+                new ConversionCase<ByteIterator, BooleanIterator>(
+                        BooleanIteratorOfByteIterator.class, ConversionCase::byteItem,
+                        ConversionCase::byteIterator, BooleanIteratorOfByteIterator::new,
+                        origin -> new BooleanIteratorOfByteIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfByteIterator(origin, null)),
+                new ConversionCase<ShortIterator, BooleanIterator>(
+                        BooleanIteratorOfShortIterator.class, ConversionCase::shortItem,
+                        ConversionCase::shortIterator, BooleanIteratorOfShortIterator::new,
+                        origin -> new BooleanIteratorOfShortIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfShortIterator(origin, null)),
+                new ConversionCase<IntIterator, BooleanIterator>(
+                        BooleanIteratorOfIntIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::intIterator, BooleanIteratorOfIntIterator::new,
+                        origin -> new BooleanIteratorOfIntIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfIntIterator(origin, null)),
+                new ConversionCase<LongIterator, BooleanIterator>(
+                        BooleanIteratorOfLongIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::longIterator, BooleanIteratorOfLongIterator::new,
+                        origin -> new BooleanIteratorOfLongIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfLongIterator(origin, null)),
+                new ConversionCase<FloatIterator, BooleanIterator>(
+                        BooleanIteratorOfFloatIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::floatIterator, BooleanIteratorOfFloatIterator::new,
+                        origin -> new BooleanIteratorOfFloatIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfFloatIterator(origin, null)),
+                new ConversionCase<DoubleIterator, BooleanIterator>(
+                        BooleanIteratorOfDoubleIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::doubleIterator, BooleanIteratorOfDoubleIterator::new,
+                        origin -> new BooleanIteratorOfDoubleIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfDoubleIterator(origin, null)),
+                new ConversionCase<CharIterator, BooleanIterator>(
+                        BooleanIteratorOfCharIterator.class, ConversionCase::charItem,
+                        ConversionCase::charIterator, BooleanIteratorOfCharIterator::new,
+                        origin -> new BooleanIteratorOfCharIterator(origin, item -> item > 1),
+                        origin -> new BooleanIteratorOfCharIterator(origin, null))
+        );
+    }
+
+    private static boolean expected(final ConversionCase<?, BooleanIterator> conversion, final int item) {
+        return conversion.sourceItem(item) != 0;
+    }
+
+    @TestFactory
+    Stream<DynamicTest> ctorThrowsNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            assertThatCode(conversion::ofNullOrigin)
+                    .isInstanceOf(NullPointerException.class);
+            if (conversion.hasConversionFunction()) {
+                assertThatCode(conversion::withConversionFunctionOfNullOrigin)
+                        .isInstanceOf(NullPointerException.class);
+                assertThatCode(conversion::withNullConversionFunction)
+                        .isInstanceOf(NullPointerException.class);
+            }
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> methodsThrowNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final BooleanIterator iterator = conversion.of();
+            assertThatCode(() -> iterator.next(null, 0, 0))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.tryAdvance(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.forEachRemaining(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateOverMultipleItems() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final BooleanIterator iterator = conversion.of(1, 0, 3, 4, 0);
+            assertThat(iterator.remaining())
+                    .isEqualTo(5L);
+            assertThat(iterator.hasNext())
+                    .isTrue();
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, 1));
+            assertThatCode(iterator::remove)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            final List<Boolean> items = new ArrayList<>();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isTrue();
+            assertThat(iterator.skip(1L))
+                    .isEqualTo(1L);
+            iterator.forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(expected(conversion, 0), expected(conversion, 4), expected(conversion, 0));
+            assertThat(iterator.hasNext())
+                    .isFalse();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isFalse();
+            assertThatCode(iterator::next)
+                    .isInstanceOf(NoSuchElementException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateWithConversionFunction() {
+        return ConversionCase.dynamicTests(cases().filter(ConversionCase::hasConversionFunction), conversion -> {
+            final List<Boolean> items = new ArrayList<>();
+            conversion.withConversionFunction(1, 2, 3).forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(false, true, true);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> nextArrayMethodConvertsItemsInBatches() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final int[] source = new int[1000];
+            for (int index = 0; index < source.length; ++index) {
+                source[index] = index;
+            }
+            final BooleanIterator iterator = conversion.of(source);
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, source[0]));
+            final boolean[] array = new boolean[1001];
+            assertThat(iterator.next(array, 1, 1000))
+                    .isEqualTo(999);
+            for (int index = 1; index < source.length; ++index) {
+                assertThat(array[index])
+                        .isEqualTo(expected(conversion, source[index]));
+            }
+            assertThat(iterator.next(array, 0, 1))
+                    .isEqualTo(0);
+        });
+    }
+}
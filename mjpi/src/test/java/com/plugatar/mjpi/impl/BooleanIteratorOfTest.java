@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIteratorOf}.
+ */
+final class BooleanIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIteratorOf((boolean[]) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodThrowsNPEForNullArg() {
+        final BooleanIterator iterator = new BooleanIteratorOf();
+        assertThatCode(() -> iterator.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final BooleanIterator iterator = new BooleanIteratorOf();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        final List<Boolean> forEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(forEachRemainingProcessedItems::add);
+        assertThat(forEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void iterateOverMultipleItems() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false, true, true);
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isTrue();
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isFalse();
+
+        final List<Boolean> firstForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(firstForEachRemainingProcessedItems::add);
+        assertThat(firstForEachRemainingProcessedItems)
+                .containsExactly(false, true, true);
+
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+
+        final List<Boolean> secondForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(secondForEachRemainingProcessedItems::add);
+        assertThat(secondForEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void nextArrayMethodThrowsNPEForNullArg() {
+        final BooleanIterator iterator = new BooleanIteratorOf();
+        assertThatCode(() -> iterator.next(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextArrayMethodThrowsIOOBEForInvalidRange() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false);
+        final boolean[] array = new boolean[2];
+        assertThatCode(() -> iterator.next(array, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 0, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false, true, true);
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        final boolean[] array = new boolean[5];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(false, false, false, false, false);
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(true, true, false, false, false);
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodThrowsIAEForNegativeArg() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false, true, true);
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.skip(1L))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void remainingMethodReturnsNumberOfRemainingItems() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+        iterator.forEachRemaining(item -> {
+        });
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final BooleanIterator iterator = new BooleanIteratorOf(true, false, false);
+        final List<Boolean> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(true);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(true, false);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIteratorOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final boolean[] items = new boolean[2];
+        assertThatCode(() -> new BooleanIteratorOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIteratorOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanIteratorOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final BooleanIterator iterator = new BooleanIteratorOf(new boolean[]{true, false, false, true, true}, 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(false);
+        final boolean[] array = new boolean[1];
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(1);
+        assertThat(array)
+                .containsExactly(false);
+        final List<Boolean> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(true);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
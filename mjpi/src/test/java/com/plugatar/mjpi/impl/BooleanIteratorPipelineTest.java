@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanIteratorPipeline}.
+ */
+final class BooleanIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final BooleanIteratorPipeline pipeline = new BooleanIteratorPipeline(new BooleanIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final BooleanIteratorPipeline pipeline = new BooleanIteratorPipeline(new BooleanIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        final List<Boolean> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(false);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false))
+                .map(item -> !item);
+        assertThat(items(iterator))
+                .containsExactly(false, true, true);
+    }
+
+    @Test
+    void filterMethod() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false, true, true))
+                .filter(item -> item);
+        assertThat(items(iterator))
+                .containsExactly(true, true, true);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Boolean> peekedItems = new ArrayList<>();
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        assertThat(peekedItems)
+                .containsExactly(true);
+        assertThat(items(iterator))
+                .containsExactly(false, false);
+        assertThat(peekedItems)
+                .containsExactly(true, false, false);
+    }
+
+    @Test
+    void limitMethod() {
+        final BooleanIterator origin = new BooleanIteratorOf(true, false, false, true);
+        final BooleanIterator iterator = new BooleanIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(true, false);
+        assertThat(origin.next())
+                .isEqualTo(false);
+        assertThat(items(new BooleanIteratorPipeline(new BooleanIteratorOf(true)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Boolean> peekedItems = new ArrayList<>();
+        final BooleanIterator origin = new BooleanIteratorOf(true, false, false, false);
+        final BooleanIterator iterator = new BooleanIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo(true);
+        final BooleanIterator limited = new BooleanIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo(false);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly(false);
+        assertThat(origin.next())
+                .isEqualTo(false);
+        assertThat(origin.next())
+                .isEqualTo(false);
+    }
+
+    @Test
+    void dropMethod() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false, true, true))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly(false, true, true);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false, true))
+                .takeWhile(item -> item);
+        assertThat(items(iterator))
+                .containsExactly(true);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final BooleanIterator iterator = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false, true))
+                .dropWhile(item -> item);
+        assertThat(items(iterator))
+                .containsExactly(false, false, true);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Boolean> peekedItems = new ArrayList<>();
+        final BooleanIterator iterator = new BooleanIteratorPipeline(
+                new BooleanIteratorOf(true, false, false, true, true, false, true, false))
+                .map(item -> !item)
+                .peek(peekedItems::add)
+                .map(item -> !item)
+                .filter(item -> item)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(true, true);
+        assertThat(peekedItems)
+                .containsExactly(false, true, true, false, false);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final BooleanIteratorPipeline pipeline = new BooleanIteratorPipeline(new BooleanIteratorOf(true, false, false, true));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final BooleanIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(false, false);
+    }
+
+    private static List<Boolean> items(final BooleanIterator iterator) {
+        final List<Boolean> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
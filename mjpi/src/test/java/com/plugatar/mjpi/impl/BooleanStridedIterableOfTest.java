@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanStridedIterableOf}.
+ */
+final class BooleanStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final boolean[] items = new boolean[2];
+        assertThatCode(() -> new BooleanStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new BooleanStridedIterableOf(new boolean[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final boolean[] items = new boolean[]{true, false, false, true, true, false, true};
+        assertThat(new BooleanStridedIterableOf(new boolean[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new BooleanStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new BooleanStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final BooleanIterable iterable = new BooleanStridedIterableOf(
+                new boolean[]{true, false, false, true, true, false, true}, 1, 7, 2
+        );
+        for (int i = 0; i < 2; ++i) {
+            final List<Boolean> items = new ArrayList<>();
+            iterable.booleanIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(false, true, false);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final BooleanIterable iterable = new BooleanStridedIterableOf(new boolean[]{true}, 1);
+        assertThatCode(() -> iterable.forEachBoolean(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final BooleanIterable iterable = new BooleanStridedIterableOf(
+                new boolean[]{true, false, false, true, true, false, true}, -3
+        );
+        final List<Boolean> items = new ArrayList<>();
+        iterable.forEachBoolean(items::add);
+        assertThat(items)
+                .containsExactly(true, true, true);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link BooleanStridedIteratorOf}.
+ */
+final class BooleanStridedIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new BooleanStridedIteratorOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new BooleanStridedIteratorOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final boolean[] items = new boolean[2];
+        assertThatCode(() -> new BooleanStridedIteratorOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanStridedIteratorOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new BooleanStridedIteratorOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        final boolean[] items = new boolean[2];
+        assertThatCode(() -> new BooleanStridedIteratorOf(items, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new BooleanStridedIteratorOf(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(new boolean[0], -1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateForwardWithStep() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(
+                new boolean[]{true, false, false, true, true, false, true}, 1, 7, 2
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Boolean> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(false, true, false);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateBackward() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(new boolean[]{true, false, false}, -1);
+        final List<Boolean> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(false, false, true);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateBackwardWithStep() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(
+                new boolean[]{true, false, false, true, true, false, true}, 0, 6, -2
+        );
+        final List<Boolean> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(false, true, false);
+    }
+
+    @Test
+    void iterateWithExtremeSteps() {
+        final boolean[] array = new boolean[]{true, false, false};
+        final List<Boolean> items = new ArrayList<>();
+        new BooleanStridedIteratorOf(array, Integer.MAX_VALUE).forEachRemaining(items::add);
+        new BooleanStridedIteratorOf(array, Integer.MIN_VALUE).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(true, false);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(
+                new boolean[]{true, false, false, true, true, false, true}, 3
+        );
+        final boolean[] array = new boolean[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(array[0], true, true);
+        assertThat(iterator.next(array, 0, 3))
+                .isEqualTo(1);
+        assertThat(array[0])
+                .isEqualTo(true);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final BooleanIterator iterator = new BooleanStridedIteratorOf(
+                new boolean[]{true, false, false, true, true, false, true, false, true}, 2
+        );
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(true);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIterableOfBuffer}.
+ */
+final class ByteIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5});
+        buffer.position(1);
+        buffer.limit(4);
+        final ByteIterable iterable = new ByteIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Byte> items = new ArrayList<>();
+            iterable.byteIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly((byte) 2, (byte) 3, (byte) 4);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final ByteIterable iterable = new ByteIterableOfBuffer(ByteBuffer.wrap(new byte[]{(byte) 1}));
+        assertThatCode(() -> iterable.forEachByte(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4});
+        buffer.position(1);
+        final List<Byte> items = new ArrayList<>();
+        new ByteIterableOfBuffer(buffer).forEachByte(items::add);
+        assertThat(items)
+                .containsExactly((byte) 2, (byte) 3, (byte) 4);
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -124,4 +126,89 @@ final class ByteIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final ByteIterable iterable = new ByteIterableOf((byte) 1, (byte) 2, (byte) 3);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new ByteIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final ByteIterator iterator = new ByteIterableOf((byte) 1, (byte) 2, (byte) 3).byteIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfInt suffix = new ByteIterableOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5).intSpliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        final List<Integer> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1, 2);
+        final List<Integer> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((IntConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3, 4, 5);
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final ByteIterable iterable = new ByteIterableOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5);
+        assertThat(iterable.intStream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(iterable.parallelIntStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final byte[] items = new byte[2];
+        assertThatCode(() -> new ByteIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final ByteIterable iterable = new ByteIterableOf(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Byte> forEachItems = new ArrayList<>();
+        iterable.forEachByte(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly((byte) 2, (byte) 3, (byte) 4);
+        final List<Byte> iteratorItems = new ArrayList<>();
+        iterable.byteIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly((byte) 2, (byte) 3, (byte) 4);
+        assertThat(iterable.intSpliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
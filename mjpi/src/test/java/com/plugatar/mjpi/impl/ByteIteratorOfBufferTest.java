@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOfBuffer}.
+ */
+final class ByteIteratorOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIteratorOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimit() {
+        final ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5});
+        buffer.position(1);
+        buffer.limit(4);
+        final ByteIterator iterator = new ByteIteratorOfBuffer(buffer);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly((byte) 2, (byte) 3, (byte) 4);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(buffer.position())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfBuffer(
+                ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3})
+        );
+        iterator.next();
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 2, (byte) 3);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfBuffer(
+                ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3})
+        );
+        final byte[] array = new byte[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], (byte) 1, (byte) 2, (byte) 3);
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfBuffer(
+                ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4})
+        );
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 3);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIteratorOfBuffer(ByteBuffer.wrap(new byte[]{(byte) 1, (byte) 2}));
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2);
+    }
+}
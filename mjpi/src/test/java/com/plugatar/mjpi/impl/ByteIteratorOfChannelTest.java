@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOfChannel}.
+ */
+final class ByteIteratorOfChannelTest {
+
+    private static byte[] bytes(final int count) {
+        final byte[] bytes = new byte[count];
+        for (int index = 0; index < count; ++index) {
+            bytes[index] = (byte) index;
+        }
+        return bytes;
+    }
+
+    private static ReadableByteChannel source(final byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new ByteIteratorOfChannel(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIteratorOfChannel(null, ByteBuffer.allocate(1)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIteratorOfChannel(source(bytes(1)), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidBufferSize() {
+        assertThatCode(() -> new ByteIteratorOfChannel(source(bytes(1)), ByteBuffer.allocate(0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOverMultipleChunks() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(10)), ByteBuffer.allocate(3));
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly((byte) 0, (byte) 1, (byte) 2, (byte) 3, (byte) 4,
+                        (byte) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(0)));
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.tryAdvance(item -> { }))
+                .isFalse();
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(5)), ByteBuffer.allocate(3));
+        iterator.next();
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesBufferedAndDirectlyReadItems() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(20)), ByteBuffer.allocateDirect(4));
+        assertThat(iterator.next())
+                .isEqualTo((byte) 0);
+        final byte[] array = new byte[20];
+        assertThat(iterator.next(array, 0, 10))
+                .isEqualTo(10);
+        assertThat(Arrays.copyOf(array, 10))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(iterator.next(array, 0, 20))
+                .isEqualTo(9);
+        assertThat(Arrays.copyOf(array, 9))
+                .containsExactly(11, 12, 13, 14, 15, 16, 17, 18, 19);
+        assertThat(iterator.next(array, 0, 20))
+                .isEqualTo(0);
+        assertThatCode(() -> iterator.next(array, 10, 11))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsItemsOfMultipleChunks() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(10)), ByteBuffer.allocate(3));
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(5L))
+                .isEqualTo(5L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 5);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(4L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(source(bytes(3)), ByteBuffer.allocate(3));
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly((byte) 0, (byte) 1, (byte) 2);
+    }
+
+    @Test
+    void hasNextMethodThrowsUncheckedIOExceptionForReadError() {
+        final ByteIterator iterator = new ByteIteratorOfChannel(Channels.newChannel(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException();
+            }
+        }));
+        assertThatCode(() -> iterator.hasNext())
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOfIntVarints}.
+ */
+final class ByteIteratorOfIntVarintsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIteratorOfIntVarints(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteIteratorOfIntVarints(null, true))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextMethodEncodesUnsignedVarints() {
+        final ByteIterator iterator = new ByteIteratorOfIntVarints(
+                new IntIteratorOf(0, 127, 128, 300, -1)
+        );
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly((byte) 0x00, (byte) 0x7F, (byte) 0x80, (byte) 0x01, (byte) 0xAC, (byte) 0x02,
+                        (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x0F);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodEncodesZigzagVarints() {
+        final ByteIterator iterator = new ByteIteratorOfIntVarints(
+                new IntIteratorOf(0, -1, 1, -2, 150), true
+        );
+        final List<Byte> items = new ArrayList<>();
+        items.add(iterator.next());
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0xAC, (byte) 0x02);
+    }
+
+    @Test
+    void forEachRemainingMethodEncodesPendingBytesFirst() {
+        final ByteIterator iterator = new ByteIteratorOfIntVarints(new IntIteratorOf(300, 1));
+        final List<Byte> items = new ArrayList<>();
+        items.add(iterator.next());
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 0xAC, (byte) 0x02, (byte) 0x01);
+    }
+}
@@ -127,4 +127,31 @@ final class ByteIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIteratorOfIterator<>(Arrays.asList((byte) 1, (byte) 2, (byte) 3).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIteratorOfIterator<>(Arrays.asList((byte) 1, (byte) 2, (byte) 3).iterator(), i -> i);
+        final List<Byte> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((byte) 1);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 2);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 3);
+    }
 }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.DoubleIterator;
+import com.plugatar.mjpi.FloatIterator;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOfShortIterator}, {@link ByteIteratorOfIntIterator},
+ * {@link ByteIteratorOfLongIterator}, {@link ByteIteratorOfFloatIterator}, {@link ByteIteratorOfDoubleIterator},
+ * {@link ByteIteratorOfCharIterator}, {@link ByteIteratorOfBooleanIterator}.
+ */
+final class ByteIteratorOfPrimitiveIteratorsTest {
+
+    private static Stream<ConversionCase<?, ByteIterator>> cases() {
+        return Stream.of(
+                new ConversionCase<ShortIterator, ByteIterator>(
+                        ByteIteratorOfShortIterator.class, ConversionCase::shortItem,
+                        ConversionCase::shortIterator, ByteIteratorOfShortIterator::new,
+                        origin -> new ByteIteratorOfShortIterator(origin, item -> item + 1),
+                        origin -> new ByteIteratorOfShortIterator(origin, null)),
+                new ConversionCase<IntIterator, ByteIterator>(
+                        ByteIteratorOfIntIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::intIterator, ByteIteratorOfIntIterator::new,
+                        origin -> new ByteIteratorOfIntIterator(origin, item -> item + 1),
+                        origin -> new ByteIteratorOfIntIterator(origin, null)),
+                new ConversionCase<LongIterator, ByteIterator>(
+                        ByteIteratorOfLongIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::longIterator, ByteIteratorOfLongIterator::new,
+                        origin -> new ByteIteratorOfLongIterator(origin, item -> (int) item + 1),
+                        origin -> new ByteIteratorOfLongIterator(origin, null)),
+                new ConversionCase<FloatIterator, ByteIterator>(
+                        ByteIteratorOfFloatIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::floatIterator, ByteIteratorOfFloatIterator::new,
+                        origin -> new ByteIteratorOfFloatIterator(origin, item -> (int) item + 1),
+                        origin -> new ByteIteratorOfFloatIterator(origin, null)),
+                new ConversionCase<DoubleIterator, ByteIterator>(
+                        ByteIteratorOfDoubleIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::doubleIterator, ByteIteratorOfDoubleIterator::new,
+                        origin -> new ByteIteratorOfDoubleIterator(origin, item -> (int) item + 1),
+                        origin -> new ByteIteratorOfDoubleIterator(origin, null)),
+                new ConversionCase<CharIterator, ByteIterator>(
+                        ByteIteratorOfCharIterator.class, ConversionCase::charItem,
+                        ConversionCase::charIterator, ByteIteratorOfCharIterator::new,
+                        origin -> new ByteIteratorOfCharIterator(origin, item -> item + 1),
+                        origin -> new ByteIteratorOfCharIterator(origin, null)),
+                new ConversionCase<BooleanIterator, ByteIterator>(
+                        ByteIteratorOfBooleanIterator.class, ConversionCase::booleanItem,
+                        ConversionCase::booleanIterator, ByteIteratorOfBooleanIterator::new)
+        );
+    }
+
+    private static byte expected(final ConversionCase<?, ByteIterator> conversion, final int item) {
+        return (byte) conversion.sourceItem(item);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> ctorThrowsNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            assertThatCode(conversion::ofNullOrigin)
+                    .isInstanceOf(NullPointerException.class);
+            if (conversion.hasConversionFunction()) {
+                assertThatCode(conversion::withConversionFunctionOfNullOrigin)
+                        .isInstanceOf(NullPointerException.class);
+                assertThatCode(conversion::withNullConversionFunction)
+                        .isInstanceOf(NullPointerException.class);
+            }
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> methodsThrowNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final ByteIterator iterator = conversion.of();
+            assertThatCode(() -> iterator.next(null, 0, 0))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.tryAdvance(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.forEachRemaining(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateOverMultipleItems() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final ByteIterator iterator = conversion.of(1, 0, 3, 4, 0);
+            assertThat(iterator.remaining())
+                    .isEqualTo(5L);
+            assertThat(iterator.hasNext())
+                    .isTrue();
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, 1));
+            assertThatCode(iterator::remove)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            final List<Byte> items = new ArrayList<>();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isTrue();
+            assertThat(iterator.skip(1L))
+                    .isEqualTo(1L);
+            iterator.forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(expected(conversion, 0), expected(conversion, 4), expected(conversion, 0));
+            assertThat(iterator.hasNext())
+                    .isFalse();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isFalse();
+            assertThatCode(iterator::next)
+                    .isInstanceOf(NoSuchElementException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateWithConversionFunction() {
+        return ConversionCase.dynamicTests(cases().filter(ConversionCase::hasConversionFunction), conversion -> {
+            final List<Byte> items = new ArrayList<>();
+            conversion.withConversionFunction(1, 2, 3).forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly((byte) 2, (byte) 3, (byte) 4);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> nextArrayMethodConvertsItemsInBatches() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final int[] source = new int[1000];
+            for (int index = 0; index < source.length; ++index) {
+                source[index] = index;
+            }
+            final ByteIterator iterator = conversion.of(source);
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, source[0]));
+            final byte[] array = new byte[1001];
+            assertThat(iterator.next(array, 1, 1000))
+                    .isEqualTo(999);
+            for (int index = 1; index < source.length; ++index) {
+                assertThat(array[index])
+                        .isEqualTo(expected(conversion, source[index]));
+            }
+            assertThat(iterator.next(array, 0, 1))
+                    .isEqualTo(0);
+        });
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorOf}.
+ */
+final class ByteIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIteratorOf((byte[]) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIteratorOf();
+        assertThatCode(() -> iterator.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final ByteIterator iterator = new ByteIteratorOf();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        final List<Byte> forEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(forEachRemainingProcessedItems::add);
+        assertThat(forEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void iterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5);
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 1);
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 2);
+
+        final List<Byte> firstForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(firstForEachRemainingProcessedItems::add);
+        assertThat(firstForEachRemainingProcessedItems)
+                .containsExactly((byte) 3, (byte) 4, (byte) 5);
+
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+
+        final List<Byte> secondForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(secondForEachRemainingProcessedItems::add);
+        assertThat(secondForEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void nextArrayMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIteratorOf();
+        assertThatCode(() -> iterator.next(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextArrayMethodThrowsIOOBEForInvalidRange() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2);
+        final byte[] array = new byte[2];
+        assertThatCode(() -> iterator.next(array, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 0, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 1);
+        final byte[] array = new byte[5];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly((byte) 0, (byte) 2, (byte) 3, (byte) 0, (byte) 0);
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly((byte) 4, (byte) 5, (byte) 3, (byte) 0, (byte) 0);
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodThrowsIAEForNegativeArg() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5);
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 3);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.skip(1L))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void remainingMethodReturnsNumberOfRemainingItems() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+        iterator.forEachRemaining(item -> {
+        });
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ByteIterator iterator = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+        final List<Byte> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((byte) 1);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 2);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 3);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIteratorOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final byte[] items = new byte[2];
+        assertThatCode(() -> new ByteIteratorOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteIteratorOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteIteratorOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final ByteIterator iterator = new ByteIteratorOf(new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5}, 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 2);
+        final byte[] array = new byte[1];
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(1);
+        assertThat(array)
+                .containsExactly((byte) 3);
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 4);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteIteratorPipeline}.
+ */
+final class ByteIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final ByteIteratorPipeline pipeline = new ByteIteratorPipeline(new ByteIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final ByteIteratorPipeline pipeline = new ByteIteratorPipeline(new ByteIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo((byte) 1);
+        final List<Byte> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly((byte) 2);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly((byte) 2, (byte) 3, (byte) 4);
+    }
+
+    @Test
+    void filterMethod() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5))
+                .filter(item -> item > (byte) 2);
+        assertThat(items(iterator))
+                .containsExactly((byte) 3, (byte) 4, (byte) 5);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Byte> peekedItems = new ArrayList<>();
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo((byte) 1);
+        assertThat(peekedItems)
+                .containsExactly((byte) 1);
+        assertThat(items(iterator))
+                .containsExactly((byte) 2, (byte) 3);
+        assertThat(peekedItems)
+                .containsExactly((byte) 1, (byte) 2, (byte) 3);
+    }
+
+    @Test
+    void limitMethod() {
+        final ByteIterator origin = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4);
+        final ByteIterator iterator = new ByteIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((byte) 1, (byte) 2);
+        assertThat(origin.next())
+                .isEqualTo((byte) 3);
+        assertThat(items(new ByteIteratorPipeline(new ByteIteratorOf((byte) 1)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Byte> peekedItems = new ArrayList<>();
+        final ByteIterator origin = new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3);
+        final ByteIterator iterator = new ByteIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo((byte) 1);
+        final ByteIterator limited = new ByteIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo((byte) 2);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly((byte) 2);
+        assertThat(origin.next())
+                .isEqualTo((byte) 3);
+    }
+
+    @Test
+    void dropMethod() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly((byte) 3, (byte) 4, (byte) 5);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 1))
+                .takeWhile(item -> item < (byte) 3);
+        assertThat(items(iterator))
+                .containsExactly((byte) 1, (byte) 2);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final ByteIterator iterator = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 1))
+                .dropWhile(item -> item < (byte) 3);
+        assertThat(items(iterator))
+                .containsExactly((byte) 3, (byte) 1);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Byte> peekedItems = new ArrayList<>();
+        final ByteIterator iterator = new ByteIteratorPipeline(
+                new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7, (byte) 8))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > (byte) 3)
+                .filter(item -> item < (byte) 8)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((byte) 5, (byte) 6);
+        assertThat(peekedItems)
+                .containsExactly((byte) 3, (byte) 4, (byte) 5, (byte) 6);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final ByteIteratorPipeline pipeline = new ByteIteratorPipeline(new ByteIteratorOf((byte) 1, (byte) 2, (byte) 3, (byte) 4));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final ByteIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((byte) 2, (byte) 3);
+    }
+
+    private static List<Byte> items(final ByteIterator iterator) {
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
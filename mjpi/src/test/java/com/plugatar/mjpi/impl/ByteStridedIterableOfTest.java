@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteStridedIterableOf}.
+ */
+final class ByteStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final byte[] items = new byte[2];
+        assertThatCode(() -> new ByteStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new ByteStridedIterableOf(new byte[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final byte[] items = new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7};
+        assertThat(new ByteStridedIterableOf(new byte[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new ByteStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new ByteStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final ByteIterable iterable = new ByteStridedIterableOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7}, 1, 7, 2
+        );
+        for (int i = 0; i < 2; ++i) {
+            final List<Byte> items = new ArrayList<>();
+            iterable.byteIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly((byte) 2, (byte) 4, (byte) 6);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final ByteIterable iterable = new ByteStridedIterableOf(new byte[]{(byte) 1}, 1);
+        assertThatCode(() -> iterable.forEachByte(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final ByteIterable iterable = new ByteStridedIterableOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7}, -3
+        );
+        final List<Byte> items = new ArrayList<>();
+        iterable.forEachByte(items::add);
+        assertThat(items)
+                .containsExactly((byte) 7, (byte) 4, (byte) 1);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ByteStridedIteratorOf}.
+ */
+final class ByteStridedIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ByteStridedIteratorOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ByteStridedIteratorOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final byte[] items = new byte[2];
+        assertThatCode(() -> new ByteStridedIteratorOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteStridedIteratorOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ByteStridedIteratorOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        final byte[] items = new byte[2];
+        assertThatCode(() -> new ByteStridedIteratorOf(items, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new ByteStridedIteratorOf(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(new byte[0], -1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateForwardWithStep() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7}, 1, 7, 2
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly((byte) 2, (byte) 4, (byte) 6);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateBackward() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(new byte[]{(byte) 1, (byte) 2, (byte) 3}, -1);
+        final List<Byte> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 3, (byte) 2, (byte) 1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateBackwardWithStep() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7}, 0, 6, -2
+        );
+        final List<Byte> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly((byte) 6, (byte) 4, (byte) 2);
+    }
+
+    @Test
+    void iterateWithExtremeSteps() {
+        final byte[] array = new byte[]{(byte) 1, (byte) 2, (byte) 3};
+        final List<Byte> items = new ArrayList<>();
+        new ByteStridedIteratorOf(array, Integer.MAX_VALUE).forEachRemaining(items::add);
+        new ByteStridedIteratorOf(array, Integer.MIN_VALUE).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((byte) 1, (byte) 3);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7}, 3
+        );
+        final byte[] array = new byte[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(array[0], (byte) 1, (byte) 4);
+        assertThat(iterator.next(array, 0, 3))
+                .isEqualTo(1);
+        assertThat(array[0])
+                .isEqualTo((byte) 7);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final ByteIterator iterator = new ByteStridedIteratorOf(
+                new byte[]{(byte) 1, (byte) 2, (byte) 3, (byte) 4, (byte) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9}, 2
+        );
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo((byte) 5);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
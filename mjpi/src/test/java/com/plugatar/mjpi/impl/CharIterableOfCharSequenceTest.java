@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIterableOfCharSequence}.
+ */
+final class CharIterableOfCharSequenceTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIterableOfCharSequence(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIterableOfCharSequence(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        assertThatCode(() -> new CharIterableOfCharSequence("ab", -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIterableOfCharSequence("ab", 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIterableOfCharSequence("ab", 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRangeMultipleTimes() {
+        final CharIterable iterable = new CharIterableOfCharSequence("abcde", 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Character> items = new ArrayList<>();
+            iterable.charIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly('b', 'c', 'd');
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final CharIterable iterable = new CharIterableOfCharSequence("a");
+        assertThatCode(() -> iterable.forEachChar(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateOverRange() {
+        final List<Character> items = new ArrayList<>();
+        new CharIterableOfCharSequence(new StringBuilder("abcde"), 2, 5).forEachChar(items::add);
+        assertThat(items)
+                .containsExactly('c', 'd', 'e');
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -122,4 +124,89 @@ final class CharIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final CharIterable iterable = new CharIterableOf('1', '2', '3');
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new CharIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final CharIterator iterator = new CharIterableOf('1', '2', '3').charIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfInt suffix = new CharIterableOf('1', '2', '3', '4', '5').intSpliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        final List<Integer> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly((int) '1', (int) '2');
+        final List<Integer> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((IntConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly((int) '3', (int) '4', (int) '5');
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final CharIterable iterable = new CharIterableOf('1', '2', '3', '4', '5');
+        assertThat(iterable.intStream().toArray())
+                .containsExactly('1', '2', '3', '4', '5');
+        assertThat(iterable.parallelIntStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly('1', '2', '3', '4', '5');
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new CharIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final CharIterable iterable = new CharIterableOf(new char[]{'1', '2', '3', '4', '5'}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Character> forEachItems = new ArrayList<>();
+        iterable.forEachChar(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly('2', '3', '4');
+        final List<Character> iteratorItems = new ArrayList<>();
+        iterable.charIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly('2', '3', '4');
+        assertThat(iterable.intSpliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
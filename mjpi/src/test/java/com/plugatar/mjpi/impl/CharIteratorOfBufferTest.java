@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorOfBuffer}.
+ */
+final class CharIteratorOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIteratorOfBuffer((CharBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimit() {
+        final CharBuffer buffer = CharBuffer.wrap(new char[]{'1', '2', '3', '4', '5'});
+        buffer.position(1);
+        buffer.limit(4);
+        final CharIterator iterator = new CharIteratorOfBuffer(buffer);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly('2', '3', '4');
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(buffer.position())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfBuffer(CharBuffer.wrap(new char[]{'1', '2', '3'}));
+        iterator.next();
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('2', '3');
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfBuffer(CharBuffer.wrap(new char[]{'1', '2', '3'}));
+        final char[] array = new char[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], '1', '2', '3');
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfBuffer(CharBuffer.wrap(new char[]{'1', '2', '3', '4'}));
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo('3');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final CharIterator iterator = new CharIteratorOfBuffer(CharBuffer.wrap(new char[]{'1', '2'}));
+        final List<Character> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly('1', '2');
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 2 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putChar('1').putChar('2').put((byte) 0).position(0);
+        final List<Character> items = new ArrayList<>();
+        new CharIteratorOfBuffer(bytes).forEachRemaining(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new CharIteratorOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('1', '2', '1', '2');
+    }
+}
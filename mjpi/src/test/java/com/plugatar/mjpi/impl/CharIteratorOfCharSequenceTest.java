@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorOfCharSequence}.
+ */
+final class CharIteratorOfCharSequenceTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIteratorOfCharSequence(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfCharSequence(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        assertThatCode(() -> new CharIteratorOfCharSequence("ab", -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIteratorOfCharSequence("ab", 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIteratorOfCharSequence("ab", 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final CharIterator iterator = new CharIteratorOfCharSequence("abcde", 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly('b', 'c', 'd');
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverMutableSequence() {
+        final StringBuilder builder = new StringBuilder("abc");
+        final CharIterator iterator = new CharIteratorOfCharSequence(builder);
+        builder.setCharAt(1, 'x');
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('a', 'x', 'c');
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItemsOfAllSequenceTypes() {
+        final CharSequence[] sequences = {
+                "abcd", new StringBuilder("abcd"), new StringBuffer("abcd"), CharBuffer.wrap("abcd")
+        };
+        for (final CharSequence sequence : sequences) {
+            final CharIterator iterator = new CharIteratorOfCharSequence(sequence);
+            iterator.next();
+            final char[] array = new char[4];
+            assertThat(iterator.next(array, 1, 2))
+                    .isEqualTo(2);
+            assertThat(iterator.next(array, 3, 1))
+                    .isEqualTo(1);
+            assertThat(iterator.next(array, 0, 1))
+                    .isEqualTo(0);
+            assertThat(array)
+                    .containsExactly('\u0000', 'b', 'c', 'd');
+        }
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfCharSequence("abcd");
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo('c');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final CharIterator iterator = new CharIteratorOfCharSequence("ab");
+        final List<Character> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly('a', 'b');
+    }
+}
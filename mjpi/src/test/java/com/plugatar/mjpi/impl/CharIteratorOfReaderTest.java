@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorOfReader}.
+ */
+final class CharIteratorOfReaderTest {
+
+    private static Reader source(final int count) {
+        return new StringReader("abcdefghijklmnopqrstuvwxyz".substring(0, count));
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new CharIteratorOfReader(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharIteratorOfReader(null, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidBufferSize() {
+        assertThatCode(() -> new CharIteratorOfReader(source(1), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOverMultipleChunks() {
+        final CharIterator iterator = new CharIteratorOfReader(source(10), 3);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly('a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j');
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final CharIterator iterator = new CharIteratorOfReader(source(0));
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.tryAdvance(item -> { }))
+                .isFalse();
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final CharIterator iterator = new CharIteratorOfReader(source(5), 3);
+        iterator.next();
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('b', 'c', 'd', 'e');
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesBufferedAndDirectlyReadItems() {
+        final CharIterator iterator = new CharIteratorOfReader(source(20), 4);
+        assertThat(iterator.next())
+                .isEqualTo('a');
+        final char[] array = new char[20];
+        assertThat(iterator.next(array, 0, 10))
+                .isEqualTo(10);
+        assertThat(Arrays.copyOf(array, 10))
+                .containsExactly('b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k');
+        assertThat(iterator.next(array, 0, 20))
+                .isEqualTo(9);
+        assertThat(Arrays.copyOf(array, 9))
+                .containsExactly('l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't');
+        assertThat(iterator.next(array, 0, 20))
+                .isEqualTo(0);
+        assertThatCode(() -> iterator.next(array, 10, 11))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsItemsOfMultipleChunks() {
+        final CharIterator iterator = new CharIteratorOfReader(source(10), 3);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(5L))
+                .isEqualTo(5L);
+        assertThat(iterator.next())
+                .isEqualTo('f');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(4L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final CharIterator iterator = new CharIteratorOfReader(source(3), 3);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly('a', 'b', 'c');
+    }
+
+    @Test
+    void hasNextMethodThrowsUncheckedIOExceptionForReadError() {
+        final CharIterator iterator = new CharIteratorOfReader(new Reader() {
+            @Override
+            public int read(final char[] buffer, final int offset, final int length) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        assertThatCode(() -> iterator.hasNext())
+                .isInstanceOf(UncheckedIOException.class)
+                .hasCauseInstanceOf(IOException.class);
+    }
+}
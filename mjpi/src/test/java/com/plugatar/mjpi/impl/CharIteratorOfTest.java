@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorOf}.
+ */
+final class CharIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIteratorOf((char[]) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodThrowsNPEForNullArg() {
+        final CharIterator iterator = new CharIteratorOf();
+        assertThatCode(() -> iterator.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final CharIterator iterator = new CharIteratorOf();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        final List<Character> forEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(forEachRemainingProcessedItems::add);
+        assertThat(forEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void iterateOverMultipleItems() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3', '4', '5');
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isEqualTo('1');
+
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(iterator.next())
+                .isEqualTo('2');
+
+        final List<Character> firstForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(firstForEachRemainingProcessedItems::add);
+        assertThat(firstForEachRemainingProcessedItems)
+                .containsExactly('3', '4', '5');
+
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.remove())
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+
+        final List<Character> secondForEachRemainingProcessedItems = new ArrayList<>();
+        iterator.forEachRemaining(secondForEachRemainingProcessedItems::add);
+        assertThat(secondForEachRemainingProcessedItems)
+                .isEmpty();
+    }
+
+    @Test
+    void nextArrayMethodThrowsNPEForNullArg() {
+        final CharIterator iterator = new CharIteratorOf();
+        assertThatCode(() -> iterator.next(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextArrayMethodThrowsIOOBEForInvalidRange() {
+        final CharIterator iterator = new CharIteratorOf('1', '2');
+        final char[] array = new char[2];
+        assertThatCode(() -> iterator.next(array, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 0, -1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> iterator.next(array, 1, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3', '4', '5');
+        assertThat(iterator.next())
+                .isEqualTo('1');
+        final char[] array = new char[5];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly('\u0000', '2', '3', '\u0000', '\u0000');
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly('4', '5', '3', '\u0000', '\u0000');
+        assertThat(iterator.next(array, 0, 5))
+                .isEqualTo(0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodThrowsIAEForNegativeArg() {
+        final CharIterator iterator = new CharIteratorOf('1');
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3', '4', '5');
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo('3');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.skip(1L))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void remainingMethodReturnsNumberOfRemainingItems() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3');
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+        iterator.forEachRemaining(item -> {
+        });
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3');
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final CharIterator iterator = new CharIteratorOf('1', '2', '3');
+        final List<Character> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly('1');
+        assertThat(iterator.next())
+                .isEqualTo('2');
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly('1', '3');
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly('1', '3');
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIteratorOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new CharIteratorOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIteratorOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharIteratorOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final CharIterator iterator = new CharIteratorOf(new char[]{'1', '2', '3', '4', '5'}, 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo('2');
+        final char[] array = new char[1];
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(1);
+        assertThat(array)
+                .containsExactly('3');
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('4');
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+}
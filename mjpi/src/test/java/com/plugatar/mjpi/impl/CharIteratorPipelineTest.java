@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharIteratorPipeline}.
+ */
+final class CharIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final CharIteratorPipeline pipeline = new CharIteratorPipeline(new CharIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final CharIteratorPipeline pipeline = new CharIteratorPipeline(new CharIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2'));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo('1');
+        final List<Character> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly('2');
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3'))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly('2', '3', '4');
+    }
+
+    @Test
+    void filterMethod() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3', '4', '5'))
+                .filter(item -> item > '2');
+        assertThat(items(iterator))
+                .containsExactly('3', '4', '5');
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Character> peekedItems = new ArrayList<>();
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3'))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo('1');
+        assertThat(peekedItems)
+                .containsExactly('1');
+        assertThat(items(iterator))
+                .containsExactly('2', '3');
+        assertThat(peekedItems)
+                .containsExactly('1', '2', '3');
+    }
+
+    @Test
+    void limitMethod() {
+        final CharIterator origin = new CharIteratorOf('1', '2', '3', '4');
+        final CharIterator iterator = new CharIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly('1', '2');
+        assertThat(origin.next())
+                .isEqualTo('3');
+        assertThat(items(new CharIteratorPipeline(new CharIteratorOf('1')).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Character> peekedItems = new ArrayList<>();
+        final CharIterator origin = new CharIteratorOf('1', '2', '3');
+        final CharIterator iterator = new CharIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo('1');
+        final CharIterator limited = new CharIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo('2');
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly('2');
+        assertThat(origin.next())
+                .isEqualTo('3');
+    }
+
+    @Test
+    void dropMethod() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3', '4', '5'))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly('3', '4', '5');
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3', '1'))
+                .takeWhile(item -> item < '3');
+        assertThat(items(iterator))
+                .containsExactly('1', '2');
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final CharIterator iterator = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3', '1'))
+                .dropWhile(item -> item < '3');
+        assertThat(items(iterator))
+                .containsExactly('3', '1');
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Character> peekedItems = new ArrayList<>();
+        final CharIterator iterator = new CharIteratorPipeline(
+                new CharIteratorOf('1', '2', '3', '4', '5', '6', '7', '8'))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > '3')
+                .filter(item -> item < '8')
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly('5', '6');
+        assertThat(peekedItems)
+                .containsExactly('3', '4', '5', '6');
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final CharIteratorPipeline pipeline = new CharIteratorPipeline(new CharIteratorOf('1', '2', '3', '4'));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final CharIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly('2', '3');
+    }
+
+    private static List<Character> items(final CharIterator iterator) {
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharStridedIterableOf}.
+ */
+final class CharStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new CharStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new CharStridedIterableOf(new char[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final char[] items = new char[]{'1', '2', '3', '4', '5', '6', '7'};
+        assertThat(new CharStridedIterableOf(new char[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new CharStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new CharStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final CharIterable iterable = new CharStridedIterableOf(new char[]{'1', '2', '3', '4', '5', '6', '7'}, 1, 7, 2);
+        for (int i = 0; i < 2; ++i) {
+            final List<Character> items = new ArrayList<>();
+            iterable.charIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly('2', '4', '6');
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final CharIterable iterable = new CharStridedIterableOf(new char[]{'1'}, 1);
+        assertThatCode(() -> iterable.forEachChar(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final CharIterable iterable = new CharStridedIterableOf(new char[]{'1', '2', '3', '4', '5', '6', '7'}, -3);
+        final List<Character> items = new ArrayList<>();
+        iterable.forEachChar(items::add);
+        assertThat(items)
+                .containsExactly('7', '4', '1');
+    }
+}
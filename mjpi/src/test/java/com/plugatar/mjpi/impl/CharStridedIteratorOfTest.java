@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.CharIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CharStridedIteratorOf}.
+ */
+final class CharStridedIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CharStridedIteratorOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new CharStridedIteratorOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new CharStridedIteratorOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharStridedIteratorOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CharStridedIteratorOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new CharStridedIteratorOf(items, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new CharStridedIteratorOf(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final CharIterator iterator = new CharStridedIteratorOf(new char[0], -1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateForwardWithStep() {
+        final CharIterator iterator = new CharStridedIteratorOf(new char[]{'1', '2', '3', '4', '5', '6', '7'}, 1, 7, 2);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Character> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly('2', '4', '6');
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateBackward() {
+        final CharIterator iterator = new CharStridedIteratorOf(new char[]{'1', '2', '3'}, -1);
+        final List<Character> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('3', '2', '1');
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateBackwardWithStep() {
+        final CharIterator iterator = new CharStridedIteratorOf(
+                new char[]{'1', '2', '3', '4', '5', '6', '7'}, 0, 6, -2
+        );
+        final List<Character> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly('6', '4', '2');
+    }
+
+    @Test
+    void iterateWithExtremeSteps() {
+        final char[] array = new char[]{'1', '2', '3'};
+        final List<Character> items = new ArrayList<>();
+        new CharStridedIteratorOf(array, Integer.MAX_VALUE).forEachRemaining(items::add);
+        new CharStridedIteratorOf(array, Integer.MIN_VALUE).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly('1', '3');
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final CharIterator iterator = new CharStridedIteratorOf(new char[]{'1', '2', '3', '4', '5', '6', '7'}, 3);
+        final char[] array = new char[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(array[0], '1', '4');
+        assertThat(iterator.next(array, 0, 3))
+                .isEqualTo(1);
+        assertThat(array[0])
+                .isEqualTo('7');
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final CharIterator iterator = new CharStridedIteratorOf(
+                new char[]{'1', '2', '3', '4', '5', '6', '7', '8', '9'}, 2
+        );
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo('5');
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
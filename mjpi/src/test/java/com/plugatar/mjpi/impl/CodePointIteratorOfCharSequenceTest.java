@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link CodePointIteratorOfCharSequence}.
+ */
+final class CodePointIteratorOfCharSequenceTest {
+    private static final String TEXT = "a\u00e9\ud83d\ude00b\ud800c\udc00\u4e2d\ud83d";
+
+    private static List<Integer> expected(final String text) {
+        return text.codePoints().boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new CodePointIteratorOfCharSequence(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        assertThatCode(() -> new CodePointIteratorOfCharSequence("ab", -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CodePointIteratorOfCharSequence("ab", 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new CodePointIteratorOfCharSequence("ab", 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRangeSplittingSurrogatePair() {
+        final List<Integer> items = new ArrayList<>();
+        new CodePointIteratorOfCharSequence(new StringBuilder(TEXT), 3, 6).forEachRemaining(items::add);
+        assertThat(items)
+                .isEqualTo(expected(TEXT.substring(3, 6)));
+    }
+
+    @Test
+    void nextMethodJoinsSurrogatePairs() {
+        final IntIterator iterator = new CodePointIteratorOfCharSequence(TEXT);
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .isEqualTo(expected(TEXT));
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodJoinsSurrogatePairs() {
+        final IntIterator iterator = new CodePointIteratorOfCharSequence(TEXT);
+        final List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .isEqualTo(expected(TEXT));
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void forEachRemainingMethodJoinsSurrogatePairsAfterNextMethod() {
+        final String text = "\ud83d\ud83d\ude00\udc00x";
+        final IntIterator iterator = new CodePointIteratorOfCharSequence(text);
+        final List<Integer> items = new ArrayList<>();
+        items.add(iterator.next());
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .isEqualTo(expected(text));
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverLongText() {
+        final StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < 1000; ++index) {
+            builder.append((char) (index % 256)).append("\ud83d\ude00");
+        }
+        final String text = builder.toString();
+        final List<Integer> items = new ArrayList<>();
+        new CodePointIteratorOfCharSequence(text).forEachRemaining(items::add);
+        assertThat(items)
+                .isEqualTo(expected(text));
+    }
+
+    @Test
+    void tryAdvanceMethodJoinsSurrogatePairs() {
+        final IntIterator iterator = new CodePointIteratorOfCharSequence(TEXT);
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .isEqualTo(expected(TEXT));
+    }
+}
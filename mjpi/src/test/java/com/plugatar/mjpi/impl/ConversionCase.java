@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.DoubleIterator;
+import com.plugatar.mjpi.FloatIterator;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.DynamicTest;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Conversion iterator test case, creates the tested iterator over an origin iterator of the given source items.
+ * Source items are given as {@code int} values and converted to the origin item type.
+ *
+ * @param <S> the type of the origin iterator
+ * @param <R> the type of the tested iterator
+ */
+final class ConversionCase<S, R> {
+    private final Class<? extends R> type;
+    private final IntUnaryOperator sourceItem;
+    private final Function<int[], S> origin;
+    private final Function<S, R> ctor;
+    private final Function<S, R> conversionFunctionCtor;
+    private final Function<S, R> nullConversionFunctionCtor;
+
+    ConversionCase(final Class<? extends R> type,
+                   final IntUnaryOperator sourceItem,
+                   final Function<int[], S> origin,
+                   final Function<S, R> ctor) {
+        this(type, sourceItem, origin, ctor, null, null);
+    }
+
+    ConversionCase(final Class<? extends R> type,
+                   final IntUnaryOperator sourceItem,
+                   final Function<int[], S> origin,
+                   final Function<S, R> ctor,
+                   final Function<S, R> conversionFunctionCtor,
+                   final Function<S, R> nullConversionFunctionCtor) {
+        this.type = type;
+        this.sourceItem = sourceItem;
+        this.origin = origin;
+        this.ctor = ctor;
+        this.conversionFunctionCtor = conversionFunctionCtor;
+        this.nullConversionFunctionCtor = nullConversionFunctionCtor;
+    }
+
+    static <R> Stream<DynamicTest> dynamicTests(final Stream<ConversionCase<?, R>> cases,
+                                                final Consumer<ConversionCase<?, R>> test) {
+        return cases.map(conversion -> dynamicTest(conversion.toString(), () -> test.accept(conversion)));
+    }
+
+    static int byteItem(final int item) {
+        return (byte) item;
+    }
+
+    static int shortItem(final int item) {
+        return (short) item;
+    }
+
+    static int charItem(final int item) {
+        return (char) item;
+    }
+
+    static int booleanItem(final int item) {
+        return item != 0 ? 1 : 0;
+    }
+
+    static ByteIterator byteIterator(final int... items) {
+        final byte[] array = new byte[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = (byte) items[index];
+        }
+        return new ByteIteratorOf(array);
+    }
+
+    static ShortIterator shortIterator(final int... items) {
+        final short[] array = new short[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = (short) items[index];
+        }
+        return new ShortIteratorOf(array);
+    }
+
+    static IntIterator intIterator(final int... items) {
+        return new IntIteratorOf(items.clone());
+    }
+
+    static LongIterator longIterator(final int... items) {
+        final long[] array = new long[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = items[index];
+        }
+        return new LongIteratorOf(array);
+    }
+
+    static FloatIterator floatIterator(final int... items) {
+        final float[] array = new float[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = items[index];
+        }
+        return new FloatIteratorOf(array);
+    }
+
+    static DoubleIterator doubleIterator(final int... items) {
+        final double[] array = new double[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = items[index];
+        }
+        return new DoubleIteratorOf(array);
+    }
+
+    static CharIterator charIterator(final int... items) {
+        final char[] array = new char[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = (char) items[index];
+        }
+        return new CharIteratorOf(array);
+    }
+
+    static BooleanIterator booleanIterator(final int... items) {
+        final boolean[] array = new boolean[items.length];
+        for (int index = 0; index < items.length; ++index) {
+            array[index] = items[index] != 0;
+        }
+        return new BooleanIteratorOf(array);
+    }
+
+    int sourceItem(final int item) {
+        return this.sourceItem.applyAsInt(item);
+    }
+
+    R of(final int... items) {
+        return this.ctor.apply(this.origin.apply(items));
+    }
+
+    R ofNullOrigin() {
+        return this.ctor.apply(null);
+    }
+
+    boolean hasConversionFunction() {
+        return this.conversionFunctionCtor != null;
+    }
+
+    R withConversionFunction(final int... items) {
+        return this.conversionFunctionCtor.apply(this.origin.apply(items));
+    }
+
+    R withConversionFunctionOfNullOrigin() {
+        return this.conversionFunctionCtor.apply(null);
+    }
+
+    R withNullConversionFunction() {
+        return this.nullConversionFunctionCtor.apply(this.origin.apply(new int[0]));
+    }
+
+    @Override
+    public String toString() {
+        return this.type.getSimpleName();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIterableOfBuffer}.
+ */
+final class DoubleIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleIterableOfBuffer((DoubleBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final DoubleBuffer buffer = DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0, 4.0, 5.0});
+        buffer.position(1);
+        buffer.limit(4);
+        final DoubleIterable iterable = new DoubleIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Double> items = new ArrayList<>();
+            iterable.doubleIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2.0, 3.0, 4.0);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final DoubleIterable iterable = new DoubleIterableOfBuffer(DoubleBuffer.wrap(new double[]{1.0}));
+        assertThatCode(() -> iterable.forEachDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final DoubleBuffer buffer = DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0, 4.0});
+        buffer.position(1);
+        final List<Double> items = new ArrayList<>();
+        new DoubleIterableOfBuffer(buffer).forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 8 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putDouble(1.0).putDouble(2.0).put((byte) 0).position(0);
+        final List<Double> items = new ArrayList<>();
+        new DoubleIterableOfBuffer(bytes).forEachDouble(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new DoubleIterableOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 1.0, 2.0);
+    }
+}
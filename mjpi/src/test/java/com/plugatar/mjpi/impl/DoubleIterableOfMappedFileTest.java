@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterable;
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIterableOfMappedFile}.
+ */
+final class DoubleIterableOfMappedFileTest {
+    @TempDir
+    Path dir;
+
+    private Path file(final ByteOrder order, final double... items) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.allocate(items.length * 8 + 1).order(order);
+        for (final double item : items) {
+            bytes.putDouble(item);
+        }
+        return Files.write(Files.createTempFile(this.dir, "items", ".bin"), bytes.array());
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1.0);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(null, ByteOrder.BIG_ENDIAN, 0L, 0L, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, null, 0L, 0L, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidSegmentSize() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1.0);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 1L, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1.0, 2.0);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, -1L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 3L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 2L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsUncheckedIOExceptionForMissingFile() {
+        final Path path = this.dir.resolve("missing.bin");
+        assertThatCode(() -> new DoubleIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void iterateInByteOrder() throws IOException {
+        final DoubleIterable bigEndian = new DoubleIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1.0, 2.0, 3.0), ByteOrder.BIG_ENDIAN
+        );
+        final DoubleIterable littleEndian = new DoubleIterableOfMappedFile(
+                this.file(ByteOrder.LITTLE_ENDIAN, 1.0, 2.0, 3.0), ByteOrder.LITTLE_ENDIAN
+        );
+        assertThat(bigEndian.size())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        bigEndian.forEachDouble(items::add);
+        littleEndian.forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 3.0, 1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void iterateOverMultipleSegments() throws IOException {
+        final DoubleIterable iterable = new DoubleIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0), ByteOrder.BIG_ENDIAN, 1L, 7L, 2
+        );
+        final DoubleIterator iterator = iterable.doubleIterator();
+        assertThat(iterator.next())
+                .isEqualTo(2.0);
+        final double[] array = new double[2];
+        assertThat(iterator.next(array, 0, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(3.0, 4.0);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(5.0, 6.0, 7.0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void skipMethodSkipsItemsAcrossSegments() throws IOException {
+        final DoubleIterator iterator = new DoubleIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0), ByteOrder.BIG_ENDIAN, 0L, 7L, 3
+        ).doubleIterator();
+        assertThat(iterator.next())
+                .isEqualTo(1.0);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        assertThat(iterator.next())
+                .isEqualTo(3.0);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(6.0);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.tryAdvance(item -> { }))
+                .isFalse();
+    }
+
+    @Test
+    void spliteratorSplitsIntoIndependentRanges() throws IOException {
+        final double[] items = new double[4096];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = index;
+        }
+        final DoubleIterable iterable = new DoubleIterableOfMappedFile(
+                this.file(ByteOrder.LITTLE_ENDIAN, items), ByteOrder.LITTLE_ENDIAN, 0L, 4096L, 100
+        );
+        final Spliterator.OfDouble spliterator = iterable.spliterator();
+        final Spliterator.OfDouble prefix = spliterator.trySplit();
+        assertThat(prefix)
+                .isNotNull();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2048L);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2048L);
+        assertThat(spliterator.tryAdvance((DoubleConsumer) item -> assertThat(item).isEqualTo((double) 2048)))
+                .isTrue();
+        assertThat(spliterator.trySplit())
+                .isNull();
+        assertThat(iterable.parallelStream().sum())
+                .isEqualTo((double) (4096L * 4095L / 2L));
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -122,4 +124,89 @@ final class DoubleIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final DoubleIterable iterable = new DoubleIterableOf(1.0, 2.0, 3.0);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new DoubleIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final DoubleIterator iterator = new DoubleIterableOf(1.0, 2.0, 3.0).doubleIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void spliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfDouble suffix = new DoubleIterableOf(1.0, 2.0, 3.0, 4.0, 5.0).spliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfDouble prefix = suffix.trySplit();
+        final List<Double> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((DoubleConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1.0, 2.0);
+        final List<Double> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((DoubleConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void streamMethodsReturnStreamsOverItems() {
+        final DoubleIterable iterable = new DoubleIterableOf(1.0, 2.0, 3.0, 4.0, 5.0);
+        assertThat(iterable.stream().toArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+        assertThat(iterable.parallelStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final double[] items = new double[2];
+        assertThatCode(() -> new DoubleIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final DoubleIterable iterable = new DoubleIterableOf(new double[]{1.0, 2.0, 3.0, 4.0, 5.0}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Double> forEachItems = new ArrayList<>();
+        iterable.forEachDouble(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(2.0, 3.0, 4.0);
+        final List<Double> iteratorItems = new ArrayList<>();
+        iterable.doubleIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly(2.0, 3.0, 4.0);
+        assertThat(iterable.spliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIteratorOfBuffer}.
+ */
+final class DoubleIteratorOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleIteratorOfBuffer((DoubleBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimit() {
+        final DoubleBuffer buffer = DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0, 4.0, 5.0});
+        buffer.position(1);
+        buffer.limit(4);
+        final DoubleIterator iterator = new DoubleIteratorOfBuffer(buffer);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(2.0, 3.0, 4.0);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(buffer.position())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfBuffer(DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0}));
+        iterator.next();
+        final List<Double> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(2.0, 3.0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfBuffer(DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0}));
+        final double[] array = new double[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], 1.0, 2.0, 3.0);
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfBuffer(DoubleBuffer.wrap(new double[]{1.0, 2.0, 3.0, 4.0}));
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(3.0);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfBuffer(DoubleBuffer.wrap(new double[]{1.0, 2.0}));
+        final List<Double> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 8 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putDouble(1.0).putDouble(2.0).put((byte) 0).position(0);
+        final List<Double> items = new ArrayList<>();
+        new DoubleIteratorOfBuffer(bytes).forEachRemaining(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new DoubleIteratorOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 2.0, 1.0, 2.0);
+    }
+}
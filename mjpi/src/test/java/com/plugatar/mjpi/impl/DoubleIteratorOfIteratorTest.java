@@ -127,4 +127,31 @@ final class DoubleIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final DoubleIterator iterator = new DoubleIteratorOfIterator<>(Arrays.asList(1.0, 2.0, 3.0).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfIterator<>(Arrays.asList(1.0, 2.0, 3.0).iterator(), i -> i);
+        final List<Double> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0);
+        assertThat(iterator.next())
+                .isEqualTo(2.0);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0, 3.0);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1.0, 3.0);
+    }
 }
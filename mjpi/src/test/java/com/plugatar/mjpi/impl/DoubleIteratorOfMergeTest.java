@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIteratorOfMerge}.
+ */
+final class DoubleIteratorOfMergeTest {
+
+    private static List<Double> items(final DoubleIterator iterator) {
+        final List<Double> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new DoubleIteratorOfMerge((DoubleIterator[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleIteratorOfMerge(new DoubleIteratorOf(1.0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Iterators() {
+        final DoubleIterator iterator = new DoubleIteratorOfMerge();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mergeIterators() {
+        final DoubleIterator iterator = new DoubleIteratorOfMerge(
+                new DoubleIteratorOf(2.0, 5.0, 5.0, 9.0),
+                new DoubleIteratorOf(),
+                new DoubleIteratorOf(1.0, 5.0, 6.0)
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(7L);
+        assertThat(items(iterator))
+                .containsExactly(1.0, 2.0, 5.0, 5.0, 5.0, 6.0, 9.0);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void remainingMethodReturnsMinus1ForUnknownRemaining() {
+        final DoubleIterator unknown = new DoubleIteratorOfIterator<>(
+                Arrays.asList(1.0, 2.0).iterator(), Double::doubleValue
+        );
+        final DoubleIterator iterator = new DoubleIteratorOfMerge(new DoubleIteratorOf(1.0), unknown);
+        assertThat(iterator.remaining())
+                .isEqualTo(-1L);
+        assertThat(items(iterator))
+                .containsExactly(1.0, 1.0, 2.0);
+    }
+
+    @Test
+    void mergeInDoubleCompareOrder() {
+        final DoubleIterator iterator = new DoubleIteratorOfMerge(
+                new DoubleIteratorOf(-0.0, 1.0, Double.NaN),
+                new DoubleIteratorOf(Double.NEGATIVE_INFINITY, 0.0, Double.POSITIVE_INFINITY)
+        );
+        assertThat(items(iterator))
+                .containsExactly(Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, Double.POSITIVE_INFINITY, Double.NaN);
+    }
+
+    @Test
+    void mergeManyIterators() {
+        final Random random = new Random(25L);
+        for (int count = 1; count <= 33; ++count) {
+            final DoubleIterator[] iterators = new DoubleIterator[count];
+            final List<Double> expected = new ArrayList<>();
+            for (int index = 0; index < count; ++index) {
+                final double[] items = random.doubles(random.nextInt(30), 0.0, 50.0).sorted().toArray();
+                iterators[index] = new DoubleIteratorOf(items);
+                for (final double item : items) {
+                    expected.add(item);
+                }
+            }
+            expected.sort(null);
+            assertThat(items(new DoubleIteratorOfMerge(iterators)))
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -132,4 +133,31 @@ final class DoubleIteratorOfNativeIteratorTest {
         assertThat(removedItems)
                 .containsExactly(1.0, 5.0);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final DoubleIterator iterator = new DoubleIteratorOfNativeIterator(DoubleStream.of(1.0, 2.0, 3.0).iterator());
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final DoubleIterator iterator = new DoubleIteratorOfNativeIterator(DoubleStream.of(1.0, 2.0, 3.0).iterator());
+        final List<Double> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0);
+        assertThat(iterator.next())
+                .isEqualTo(2.0);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0, 3.0);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1.0, 3.0);
+    }
 }
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleIteratorPipeline}.
+ */
+final class DoubleIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final DoubleIteratorPipeline pipeline = new DoubleIteratorPipeline(new DoubleIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final DoubleIteratorPipeline pipeline = new DoubleIteratorPipeline(new DoubleIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(1.0);
+        final List<Double> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(2.0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly(2.0, 3.0, 4.0);
+    }
+
+    @Test
+    void filterMethod() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0, 4.0, 5.0))
+                .filter(item -> item > 2.0);
+        assertThat(items(iterator))
+                .containsExactly(3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Double> peekedItems = new ArrayList<>();
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo(1.0);
+        assertThat(peekedItems)
+                .containsExactly(1.0);
+        assertThat(items(iterator))
+                .containsExactly(2.0, 3.0);
+        assertThat(peekedItems)
+                .containsExactly(1.0, 2.0, 3.0);
+    }
+
+    @Test
+    void limitMethod() {
+        final DoubleIterator origin = new DoubleIteratorOf(1.0, 2.0, 3.0, 4.0);
+        final DoubleIterator iterator = new DoubleIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(1.0, 2.0);
+        assertThat(origin.next())
+                .isEqualTo(3.0);
+        assertThat(items(new DoubleIteratorPipeline(new DoubleIteratorOf(1.0)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Double> peekedItems = new ArrayList<>();
+        final DoubleIterator origin = new DoubleIteratorOf(1.0, 2.0, 3.0);
+        final DoubleIterator iterator = new DoubleIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo(1.0);
+        final DoubleIterator limited = new DoubleIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo(2.0);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly(2.0);
+        assertThat(origin.next())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    void dropMethod() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0, 4.0, 5.0))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly(3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0, 1.0))
+                .takeWhile(item -> item < 3.0);
+        assertThat(items(iterator))
+                .containsExactly(1.0, 2.0);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final DoubleIterator iterator = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0, 1.0))
+                .dropWhile(item -> item < 3.0);
+        assertThat(items(iterator))
+                .containsExactly(3.0, 1.0);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Double> peekedItems = new ArrayList<>();
+        final DoubleIterator iterator = new DoubleIteratorPipeline(
+                new DoubleIteratorOf(1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > 3.0)
+                .filter(item -> item < 8.0)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(5.0, 6.0);
+        assertThat(peekedItems)
+                .containsExactly(3.0, 4.0, 5.0, 6.0);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final DoubleIteratorPipeline pipeline = new DoubleIteratorPipeline(new DoubleIteratorOf(1.0, 2.0, 3.0, 4.0));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final DoubleIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(2.0, 3.0);
+    }
+
+    private static List<Double> items(final DoubleIterator iterator) {
+        final List<Double> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
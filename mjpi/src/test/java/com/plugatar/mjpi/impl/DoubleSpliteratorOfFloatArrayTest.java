@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleSpliteratorOfFloatArray}.
+ */
+final class DoubleSpliteratorOfFloatArrayTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleSpliteratorOfFloatArray((float[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleSpliteratorOfFloatArray(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final float[] items = new float[2];
+        assertThatCode(() -> new DoubleSpliteratorOfFloatArray(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleSpliteratorOfFloatArray(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleSpliteratorOfFloatArray(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final Spliterator.OfDouble spliterator = new DoubleSpliteratorOfFloatArray(1.0f);
+        assertThatCode(() -> spliterator.tryAdvance((DoubleConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> spliterator.forEachRemaining((DoubleConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void characteristicsMethodReturnsSizedCharacteristics() {
+        final Spliterator.OfDouble spliterator = new DoubleSpliteratorOfFloatArray(1.0f);
+        assertThat(spliterator.characteristics())
+                .isEqualTo(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final Spliterator.OfDouble spliterator = new DoubleSpliteratorOfFloatArray(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f}, 1, 4);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((DoubleConsumer) items::add))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+        spliterator.forEachRemaining((DoubleConsumer) items::add);
+        assertThat(items)
+                .containsExactly(2.0, 3.0, 4.0);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(0L);
+        assertThat(spliterator.tryAdvance((DoubleConsumer) items::add))
+                .isFalse();
+    }
+
+    @Test
+    void trySplitMethodSplitsInHalves() {
+        final Spliterator.OfDouble suffix = new DoubleSpliteratorOfFloatArray(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        final Spliterator.OfDouble prefix = suffix.trySplit();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2L);
+        assertThat(suffix.estimateSize())
+                .isEqualTo(3L);
+        final List<Double> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((DoubleConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1.0, 2.0);
+        final List<Double> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((DoubleConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3.0, 4.0, 5.0);
+        assertThat(suffix.trySplit())
+                .isNull();
+    }
+}
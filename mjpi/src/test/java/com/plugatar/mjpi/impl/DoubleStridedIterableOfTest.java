@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleStridedIterableOf}.
+ */
+final class DoubleStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final double[] items = new double[2];
+        assertThatCode(() -> new DoubleStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new DoubleStridedIterableOf(new double[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final double[] items = new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0};
+        assertThat(new DoubleStridedIterableOf(new double[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new DoubleStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new DoubleStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final DoubleIterable iterable = new DoubleStridedIterableOf(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0}, 1, 7, 2
+        );
+        for (int i = 0; i < 2; ++i) {
+            final List<Double> items = new ArrayList<>();
+            iterable.doubleIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2.0, 4.0, 6.0);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final DoubleIterable iterable = new DoubleStridedIterableOf(new double[]{1.0}, 1);
+        assertThatCode(() -> iterable.forEachDouble(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final DoubleIterable iterable = new DoubleStridedIterableOf(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0}, -3
+        );
+        final List<Double> items = new ArrayList<>();
+        iterable.forEachDouble(items::add);
+        assertThat(items)
+                .containsExactly(7.0, 4.0, 1.0);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.DoubleIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link DoubleStridedIteratorOf}.
+ */
+final class DoubleStridedIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new DoubleStridedIteratorOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new DoubleStridedIteratorOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final double[] items = new double[2];
+        assertThatCode(() -> new DoubleStridedIteratorOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleStridedIteratorOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new DoubleStridedIteratorOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        final double[] items = new double[2];
+        assertThatCode(() -> new DoubleStridedIteratorOf(items, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new DoubleStridedIteratorOf(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(new double[0], -1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateForwardWithStep() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0}, 1, 7, 2
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Double> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(2.0, 4.0, 6.0);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateBackward() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(new double[]{1.0, 2.0, 3.0}, -1);
+        final List<Double> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(3.0, 2.0, 1.0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateBackwardWithStep() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0}, 0, 6, -2
+        );
+        final List<Double> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(6.0, 4.0, 2.0);
+    }
+
+    @Test
+    void iterateWithExtremeSteps() {
+        final double[] array = new double[]{1.0, 2.0, 3.0};
+        final List<Double> items = new ArrayList<>();
+        new DoubleStridedIteratorOf(array, Integer.MAX_VALUE).forEachRemaining(items::add);
+        new DoubleStridedIteratorOf(array, Integer.MIN_VALUE).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1.0, 3.0);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0}, 3);
+        final double[] array = new double[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(array[0], 1.0, 4.0);
+        assertThat(iterator.next(array, 0, 3))
+                .isEqualTo(1);
+        assertThat(array[0])
+                .isEqualTo(7.0);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final DoubleIterator iterator = new DoubleStridedIteratorOf(
+                new double[]{1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0, 9.0}, 2
+        );
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(5.0);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
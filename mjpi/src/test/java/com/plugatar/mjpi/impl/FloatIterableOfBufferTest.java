@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.FloatIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatIterableOfBuffer}.
+ */
+final class FloatIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatIterableOfBuffer((FloatBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIterableOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIterableOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final FloatBuffer buffer = FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f});
+        buffer.position(1);
+        buffer.limit(4);
+        final FloatIterable iterable = new FloatIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Float> items = new ArrayList<>();
+            iterable.floatIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2.0f, 3.0f, 4.0f);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final FloatIterable iterable = new FloatIterableOfBuffer(FloatBuffer.wrap(new float[]{1.0f}));
+        assertThatCode(() -> iterable.forEachFloat(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final FloatBuffer buffer = FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f, 4.0f});
+        buffer.position(1);
+        final List<Float> items = new ArrayList<>();
+        new FloatIterableOfBuffer(buffer).forEachFloat(items::add);
+        assertThat(items)
+                .containsExactly(2.0f, 3.0f, 4.0f);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 4 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putFloat(1.0f).putFloat(2.0f).put((byte) 0).position(0);
+        final List<Float> items = new ArrayList<>();
+        new FloatIterableOfBuffer(bytes).forEachFloat(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new FloatIterableOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachFloat(items::add);
+        assertThat(items)
+                .containsExactly(1.0f, 2.0f, 1.0f, 2.0f);
+    }
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -122,4 +124,89 @@ final class FloatIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final FloatIterable iterable = new FloatIterableOf(1.0f, 2.0f, 3.0f);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new FloatIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final FloatIterator iterator = new FloatIterableOf(1.0f, 2.0f, 3.0f).floatIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void doubleSpliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfDouble suffix = new FloatIterableOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f).doubleSpliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfDouble prefix = suffix.trySplit();
+        final List<Double> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((DoubleConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1.0, 2.0);
+        final List<Double> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((DoubleConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void doubleStreamMethodsReturnStreamsOverItems() {
+        final FloatIterable iterable = new FloatIterableOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
+        assertThat(iterable.doubleStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+        assertThat(iterable.parallelDoubleStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelDoubleStream().toArray())
+                .containsExactly(1.0, 2.0, 3.0, 4.0, 5.0);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final float[] items = new float[2];
+        assertThatCode(() -> new FloatIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final FloatIterable iterable = new FloatIterableOf(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Float> forEachItems = new ArrayList<>();
+        iterable.forEachFloat(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(2.0f, 3.0f, 4.0f);
+        final List<Float> iteratorItems = new ArrayList<>();
+        iterable.floatIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly(2.0f, 3.0f, 4.0f);
+        assertThat(iterable.doubleSpliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
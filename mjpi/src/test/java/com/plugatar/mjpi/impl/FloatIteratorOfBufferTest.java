@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.FloatIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatIteratorOfBuffer}.
+ */
+final class FloatIteratorOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatIteratorOfBuffer((FloatBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIteratorOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIteratorOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatIteratorOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimit() {
+        final FloatBuffer buffer = FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f});
+        buffer.position(1);
+        buffer.limit(4);
+        final FloatIterator iterator = new FloatIteratorOfBuffer(buffer);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Float> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(2.0f, 3.0f, 4.0f);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(buffer.position())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void forEachRemainingMethodIterateOverRemainingItems() {
+        final FloatIterator iterator = new FloatIteratorOfBuffer(FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f}));
+        iterator.next();
+        final List<Float> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(2.0f, 3.0f);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final FloatIterator iterator = new FloatIteratorOfBuffer(FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f}));
+        final float[] array = new float[4];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(iterator.next(array, 3, 1))
+                .isEqualTo(1);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThat(array)
+                .containsExactly(array[0], 1.0f, 2.0f, 3.0f);
+        assertThatCode(() -> iterator.next(array, 3, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final FloatIterator iterator = new FloatIteratorOfBuffer(FloatBuffer.wrap(new float[]{1.0f, 2.0f, 3.0f, 4.0f}));
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(3.0f);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final FloatIterator iterator = new FloatIteratorOfBuffer(FloatBuffer.wrap(new float[]{1.0f, 2.0f}));
+        final List<Float> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(1.0f, 2.0f);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 4 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putFloat(1.0f).putFloat(2.0f).put((byte) 0).position(0);
+        final List<Float> items = new ArrayList<>();
+        new FloatIteratorOfBuffer(bytes).forEachRemaining(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new FloatIteratorOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1.0f, 2.0f, 1.0f, 2.0f);
+    }
+}
@@ -127,4 +127,31 @@ final class FloatIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final FloatIterator iterator = new FloatIteratorOfIterator<>(Arrays.asList(1.0f, 2.0f, 3.0f).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final FloatIterator iterator = new FloatIteratorOfIterator<>(Arrays.asList(1.0f, 2.0f, 3.0f).iterator(), i -> i);
+        final List<Float> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0f);
+        assertThat(iterator.next())
+                .isEqualTo(2.0f);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1.0f, 3.0f);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1.0f, 3.0f);
+    }
 }
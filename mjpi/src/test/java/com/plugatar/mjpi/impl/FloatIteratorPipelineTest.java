@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.FloatIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatIteratorPipeline}.
+ */
+final class FloatIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final FloatIteratorPipeline pipeline = new FloatIteratorPipeline(new FloatIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final FloatIteratorPipeline pipeline = new FloatIteratorPipeline(new FloatIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(1.0f);
+        final List<Float> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(2.0f);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly(2.0f, 3.0f, 4.0f);
+    }
+
+    @Test
+    void filterMethod() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f))
+                .filter(item -> item > 2.0f);
+        assertThat(items(iterator))
+                .containsExactly(3.0f, 4.0f, 5.0f);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Float> peekedItems = new ArrayList<>();
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo(1.0f);
+        assertThat(peekedItems)
+                .containsExactly(1.0f);
+        assertThat(items(iterator))
+                .containsExactly(2.0f, 3.0f);
+        assertThat(peekedItems)
+                .containsExactly(1.0f, 2.0f, 3.0f);
+    }
+
+    @Test
+    void limitMethod() {
+        final FloatIterator origin = new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f);
+        final FloatIterator iterator = new FloatIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(1.0f, 2.0f);
+        assertThat(origin.next())
+                .isEqualTo(3.0f);
+        assertThat(items(new FloatIteratorPipeline(new FloatIteratorOf(1.0f)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Float> peekedItems = new ArrayList<>();
+        final FloatIterator origin = new FloatIteratorOf(1.0f, 2.0f, 3.0f);
+        final FloatIterator iterator = new FloatIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo(1.0f);
+        final FloatIterator limited = new FloatIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo(2.0f);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly(2.0f);
+        assertThat(origin.next())
+                .isEqualTo(3.0f);
+    }
+
+    @Test
+    void dropMethod() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly(3.0f, 4.0f, 5.0f);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f, 1.0f))
+                .takeWhile(item -> item < 3.0f);
+        assertThat(items(iterator))
+                .containsExactly(1.0f, 2.0f);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final FloatIterator iterator = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f, 1.0f))
+                .dropWhile(item -> item < 3.0f);
+        assertThat(items(iterator))
+                .containsExactly(3.0f, 1.0f);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Float> peekedItems = new ArrayList<>();
+        final FloatIterator iterator = new FloatIteratorPipeline(
+                new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > 3.0f)
+                .filter(item -> item < 8.0f)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(5.0f, 6.0f);
+        assertThat(peekedItems)
+                .containsExactly(3.0f, 4.0f, 5.0f, 6.0f);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final FloatIteratorPipeline pipeline = new FloatIteratorPipeline(new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final FloatIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(2.0f, 3.0f);
+    }
+
+    private static List<Float> items(final FloatIterator iterator) {
+        final List<Float> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.FloatIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatStridedIterableOf}.
+ */
+final class FloatStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final float[] items = new float[2];
+        assertThatCode(() -> new FloatStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new FloatStridedIterableOf(new float[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final float[] items = new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f};
+        assertThat(new FloatStridedIterableOf(new float[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new FloatStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new FloatStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final FloatIterable iterable = new FloatStridedIterableOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f}, 1, 7, 2
+        );
+        for (int i = 0; i < 2; ++i) {
+            final List<Float> items = new ArrayList<>();
+            iterable.floatIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2.0f, 4.0f, 6.0f);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final FloatIterable iterable = new FloatStridedIterableOf(new float[]{1.0f}, 1);
+        assertThatCode(() -> iterable.forEachFloat(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final FloatIterable iterable = new FloatStridedIterableOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f}, -3
+        );
+        final List<Float> items = new ArrayList<>();
+        iterable.forEachFloat(items::add);
+        assertThat(items)
+                .containsExactly(7.0f, 4.0f, 1.0f);
+    }
+}
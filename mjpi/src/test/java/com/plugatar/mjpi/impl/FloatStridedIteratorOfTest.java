@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.FloatIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link FloatStridedIteratorOf}.
+ */
+final class FloatStridedIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new FloatStridedIteratorOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new FloatStridedIteratorOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final float[] items = new float[2];
+        assertThatCode(() -> new FloatStridedIteratorOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatStridedIteratorOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new FloatStridedIteratorOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        final float[] items = new float[2];
+        assertThatCode(() -> new FloatStridedIteratorOf(items, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new FloatStridedIteratorOf(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(new float[0], -1);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateForwardWithStep() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f}, 1, 7, 2
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Float> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(2.0f, 4.0f, 6.0f);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateBackward() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(new float[]{1.0f, 2.0f, 3.0f}, -1);
+        final List<Float> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(3.0f, 2.0f, 1.0f);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateBackwardWithStep() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f}, 0, 6, -2
+        );
+        final List<Float> items = new ArrayList<>();
+        while (iterator.tryAdvance(items::add)) {
+        }
+        assertThat(items)
+                .containsExactly(6.0f, 4.0f, 2.0f);
+    }
+
+    @Test
+    void iterateWithExtremeSteps() {
+        final float[] array = new float[]{1.0f, 2.0f, 3.0f};
+        final List<Float> items = new ArrayList<>();
+        new FloatStridedIteratorOf(array, Integer.MAX_VALUE).forEachRemaining(items::add);
+        new FloatStridedIteratorOf(array, Integer.MIN_VALUE).forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(1.0f, 3.0f);
+    }
+
+    @Test
+    void nextArrayMethodCopiesRemainingItems() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f}, 3
+        );
+        final float[] array = new float[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(array[0], 1.0f, 4.0f);
+        assertThat(iterator.next(array, 0, 3))
+                .isEqualTo(1);
+        assertThat(array[0])
+                .isEqualTo(7.0f);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void skipMethodSkipsRemainingItems() {
+        final FloatIterator iterator = new FloatStridedIteratorOf(
+                new float[]{1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f, 7.0f, 8.0f, 9.0f}, 2
+        );
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(5.0f);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIterableOfBitPacked}.
+ */
+final class IntIterableOfBitPackedTest {
+
+    private static int[] items(final int size, final int width) {
+        final Random random = new Random(size + width);
+        final int[] items = new int[size];
+        for (int index = 0; index < size; ++index) {
+            items[index] = width == 0 ? -1000 : -1000 + (random.nextInt() >>> (32 - width));
+        }
+        return items;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIterableOfBitPacked((int[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfBitPacked(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final int[] items = {1, 2};
+        assertThatCode(() -> new IntIterableOfBitPacked(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfBitPacked(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfBitPacked(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final IntIterable iterable = new IntIterableOfBitPacked();
+        assertThat(iterable.size())
+                .isEqualTo(0L);
+        final IntIterator iterator = iterable.intIterator();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverItemsOfAllBitWidths() {
+        for (int width = 0; width <= 32; ++width) {
+            final int[] items = items(300, width);
+            final IntIterable iterable = new IntIterableOfBitPacked(items);
+            assertThat(iterable.size())
+                    .isEqualTo(300L);
+            final List<Integer> expected = new ArrayList<>();
+            for (final int item : items) {
+                expected.add(item);
+            }
+            final List<Integer> actual = new ArrayList<>();
+            iterable.forEachInt(actual::add);
+            assertThat(actual)
+                    .isEqualTo(expected);
+            actual.clear();
+            final IntIterator iterator = iterable.intIterator();
+            while (iterator.hasNext()) {
+                actual.add(iterator.next());
+            }
+            assertThat(actual)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void iterateOverExtremeItems() {
+        final IntIterable iterable = new IntIterableOfBitPacked(new int[]{
+                0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 7
+        }, 1, 5);
+        final List<Integer> items = new ArrayList<>();
+        iterable.forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 7);
+    }
+
+    @Test
+    void nextArrayMethodUnpacksBlocks() {
+        final int[] items = items(300, 10);
+        final IntIterator iterator = new IntIterableOfBitPacked(items).intIterator();
+        assertThat(iterator.next())
+                .isEqualTo(items[0]);
+        final int[] array = new int[301];
+        assertThat(iterator.next(array, 1, 127))
+                .isEqualTo(127);
+        assertThat(iterator.next(array, 128, 173))
+                .isEqualTo(172);
+        array[0] = items[0];
+        assertThat(Arrays.copyOf(array, 300))
+                .isEqualTo(items);
+        assertThat(iterator.next(array, 0, 1))
+                .isEqualTo(0);
+        assertThatCode(() -> iterator.next(array, 300, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodSkipsItems() {
+        final int[] items = items(300, 7);
+        final IntIterator iterator = new IntIterableOfBitPacked(items).intIterator();
+        assertThat(iterator.skip(5L))
+                .isEqualTo(5L);
+        assertThat(iterator.next())
+                .isEqualTo(items[5]);
+        assertThat(iterator.skip(200L))
+                .isEqualTo(200L);
+        assertThat(iterator.next())
+                .isEqualTo(items[206]);
+        assertThat(iterator.remaining())
+                .isEqualTo(93L);
+        final List<Integer> rest = new ArrayList<>();
+        assertThat(iterator.tryAdvance((IntConsumer) rest::add))
+                .isTrue();
+        iterator.forEachRemaining(rest::add);
+        assertThat(rest)
+                .hasSize(93)
+                .startsWith(items[207])
+                .endsWith(items[299]);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spliteratorSplitsOnBlockBoundaries() {
+        final int[] items = new int[4096];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = index;
+        }
+        final IntIterable iterable = new IntIterableOfBitPacked(items);
+        final Spliterator.OfInt spliterator = iterable.spliterator();
+        final Spliterator.OfInt prefix = spliterator.trySplit();
+        assertThat(prefix)
+                .isNotNull();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2048L);
+        assertThat(spliterator.tryAdvance((IntConsumer) item -> assertThat(item).isEqualTo(2048)))
+                .isTrue();
+        assertThat(spliterator.trySplit())
+                .isNull();
+        assertThat(iterable.parallelStream().asLongStream().sum())
+                .isEqualTo(4096L * 4095L / 2L);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIterableOfBuffer}.
+ */
+final class IntIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIterableOfBuffer((IntBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final IntBuffer buffer = IntBuffer.wrap(new int[]{1, 2, 3, 4, 5});
+        buffer.position(1);
+        buffer.limit(4);
+        final IntIterable iterable = new IntIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Integer> items = new ArrayList<>();
+            iterable.intIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2, 3, 4);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final IntIterable iterable = new IntIterableOfBuffer(IntBuffer.wrap(new int[]{1}));
+        assertThatCode(() -> iterable.forEachInt(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final IntBuffer buffer = IntBuffer.wrap(new int[]{1, 2, 3, 4});
+        buffer.position(1);
+        final List<Integer> items = new ArrayList<>();
+        new IntIterableOfBuffer(buffer).forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(2, 3, 4);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 4 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(1).putInt(2).put((byte) 0).position(0);
+        final List<Integer> items = new ArrayList<>();
+        new IntIterableOfBuffer(bytes).forEachInt(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new IntIterableOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 1, 2);
+    }
+}
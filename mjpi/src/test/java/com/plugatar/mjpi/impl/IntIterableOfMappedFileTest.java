@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIterableOfMappedFile}.
+ */
+final class IntIterableOfMappedFileTest {
+    @TempDir
+    Path dir;
+
+    private Path file(final ByteOrder order, final int... items) throws IOException {
+        final ByteBuffer bytes = ByteBuffer.allocate(items.length * 4 + 1).order(order);
+        for (final int item : items) {
+            bytes.putInt(item);
+        }
+        return Files.write(Files.createTempFile(this.dir, "items", ".bin"), bytes.array());
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1);
+        assertThatCode(() -> new IntIterableOfMappedFile(null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(null, ByteOrder.BIG_ENDIAN, 0L, 0L, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, null, 0L, 0L, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidSegmentSize() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 1L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 1L, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() throws IOException {
+        final Path path = this.file(ByteOrder.BIG_ENDIAN, 1, 2);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, -1L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 0L, 3L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN, 2L, 1L))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsUncheckedIOExceptionForMissingFile() {
+        final Path path = this.dir.resolve("missing.bin");
+        assertThatCode(() -> new IntIterableOfMappedFile(path, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void iterateInByteOrder() throws IOException {
+        final IntIterable bigEndian = new IntIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1, 2, 3), ByteOrder.BIG_ENDIAN
+        );
+        final IntIterable littleEndian = new IntIterableOfMappedFile(
+                this.file(ByteOrder.LITTLE_ENDIAN, 1, 2, 3), ByteOrder.LITTLE_ENDIAN
+        );
+        assertThat(bigEndian.size())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        bigEndian.forEachInt(items::add);
+        littleEndian.forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(1, 2, 3, 1, 2, 3);
+    }
+
+    @Test
+    void iterateOverMultipleSegments() throws IOException {
+        final IntIterable iterable = new IntIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1, 2, 3, 4, 5, 6, 7), ByteOrder.BIG_ENDIAN, 1L, 7L, 2
+        );
+        final IntIterator iterator = iterable.intIterator();
+        assertThat(iterator.next())
+                .isEqualTo(2);
+        final int[] array = new int[2];
+        assertThat(iterator.next(array, 0, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(3, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(5, 6, 7);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void skipMethodSkipsItemsAcrossSegments() throws IOException {
+        final IntIterator iterator = new IntIterableOfMappedFile(
+                this.file(ByteOrder.BIG_ENDIAN, 1, 2, 3, 4, 5, 6, 7), ByteOrder.BIG_ENDIAN, 0L, 7L, 3
+        ).intIterator();
+        assertThat(iterator.next())
+                .isEqualTo(1);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        assertThat(iterator.next())
+                .isEqualTo(3);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo(6);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(1L);
+        assertThat(iterator.tryAdvance(item -> { }))
+                .isFalse();
+    }
+
+    @Test
+    void spliteratorSplitsIntoIndependentRanges() throws IOException {
+        final int[] items = new int[4096];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = index;
+        }
+        final IntIterable iterable = new IntIterableOfMappedFile(
+                this.file(ByteOrder.LITTLE_ENDIAN, items), ByteOrder.LITTLE_ENDIAN, 0L, 4096L, 100
+        );
+        final Spliterator.OfInt spliterator = iterable.spliterator();
+        final Spliterator.OfInt prefix = spliterator.trySplit();
+        assertThat(prefix)
+                .isNotNull();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2048L);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2048L);
+        assertThat(spliterator.tryAdvance((IntConsumer) item -> assertThat(item).isEqualTo(2048)))
+                .isTrue();
+        assertThat(spliterator.trySplit())
+                .isNull();
+        assertThat(iterable.parallelStream().sum())
+                .isEqualTo((int) (4096L * 4095L / 2L));
+    }
+}
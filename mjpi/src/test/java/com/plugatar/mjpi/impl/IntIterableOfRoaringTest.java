@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import com.plugatar.mjpi.SortedIntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIterableOfRoaring}.
+ */
+final class IntIterableOfRoaringTest {
+
+    /**
+     * Returns sorted items with sparse, dense, consecutive and negative chunks and duplicates.
+     */
+    private static int[] items() {
+        final Random random = new Random(23L);
+        final IntStream.Builder builder = IntStream.builder();
+        for (int index = 0; index < 100; ++index) {
+            builder.add(-random.nextInt(1_000_000));
+            builder.add(random.nextInt(1 << 16));
+        }
+        for (int index = 0; index < 20_000; ++index) {
+            builder.add((3 << 16) + random.nextInt(1 << 16));
+        }
+        for (int index = 0; index < 5000; ++index) {
+            builder.add((5 << 16) + 100 + index);
+            builder.add((5 << 16) + 10_000 + index);
+        }
+        builder.add(Integer.MIN_VALUE).add(Integer.MAX_VALUE).add(Integer.MAX_VALUE).add(-1).add(0);
+        final int[] items = builder.build().toArray();
+        Arrays.sort(items);
+        return items;
+    }
+
+    private static List<Integer> distinct(final int[] items) {
+        return Arrays.stream(items).distinct().boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIterableOfRoaring((int[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIterableOfRoaring(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final int[] items = {1, 2};
+        assertThatCode(() -> new IntIterableOfRoaring(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfRoaring(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOfRoaring(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForUnsortedItems() {
+        assertThatCode(() -> new IntIterableOfRoaring(1, 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new IntIterableOfRoaring(1 << 16, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final IntIterable iterable = new IntIterableOfRoaring();
+        assertThat(iterable.size())
+                .isEqualTo(0L);
+        final SortedIntIterator iterator = new IntIterableOfRoaring().intIterator();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.advanceTo(0))
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverDistinctItems() {
+        final int[] items = items();
+        final List<Integer> expected = distinct(items);
+        final IntIterableOfRoaring iterable = new IntIterableOfRoaring(items);
+        assertThat(iterable.size())
+                .isEqualTo(expected.size());
+        final List<Integer> actual = new ArrayList<>();
+        final SortedIntIterator iterator = iterable.intIterator();
+        while (iterator.hasNext()) {
+            actual.add(iterator.next());
+        }
+        assertThat(actual)
+                .isEqualTo(expected);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodContinuesFromCursor() {
+        final int[] items = items();
+        final List<Integer> expected = distinct(items);
+        for (final int skipped : new int[]{0, 1, 150, 17_000, expected.size() - 1, expected.size()}) {
+            final SortedIntIterator iterator = new IntIterableOfRoaring(items).intIterator();
+            for (int index = 0; index < skipped; ++index) {
+                iterator.next();
+            }
+            final List<Integer> actual = new ArrayList<>();
+            iterator.forEachRemaining(actual::add);
+            assertThat(actual)
+                    .isEqualTo(expected.subList(skipped, expected.size()));
+            assertThat(iterator.hasNext())
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void advanceToMethodSkipsItemsLessThanTarget() {
+        final int[] items = items();
+        final List<Integer> expected = distinct(items);
+        final Random random = new Random(42L);
+        final SortedIntIterator iterator = new IntIterableOfRoaring(items).intIterator();
+        int target = Integer.MIN_VALUE;
+        int expectedIndex = 0;
+        while (true) {
+            final long step = random.nextInt(4) == 0 ? random.nextInt(1 << 20) : random.nextInt(200);
+            if (target + step > Integer.MAX_VALUE) {
+                break;
+            }
+            target += (int) step;
+            while (expectedIndex < expected.size() && expected.get(expectedIndex) < target) {
+                ++expectedIndex;
+            }
+            assertThat(iterator.advanceTo(target))
+                    .isEqualTo(expectedIndex < expected.size());
+            if (expectedIndex < expected.size() && random.nextBoolean()) {
+                assertThat(iterator.next())
+                        .isEqualTo(expected.get(expectedIndex++));
+            }
+        }
+        final SortedIntIterator lastItemIterator = new IntIterableOfRoaring(items).intIterator();
+        assertThat(lastItemIterator.advanceTo(Integer.MAX_VALUE))
+                .isTrue();
+        assertThat(lastItemIterator.next())
+                .isEqualTo(Integer.MAX_VALUE);
+        assertThat(lastItemIterator.advanceTo(Integer.MAX_VALUE))
+                .isFalse();
+    }
+
+    @Test
+    void advanceToMethodDoesNotMoveBackward() {
+        final SortedIntIterator iterator = new IntIterableOfRoaring(1, 5, 1 << 16, 3 << 16).intIterator();
+        assertThat(iterator.advanceTo(5))
+                .isTrue();
+        assertThat(iterator.advanceTo(0))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(5);
+        assertThat(iterator.advanceTo(2 << 16))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(3 << 16);
+    }
+
+    @Test
+    void spliteratorIsSortedAndSized() {
+        final int[] items = items();
+        final IntIterable iterable = new IntIterableOfRoaring(items);
+        final Spliterator.OfInt spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.SIZED))
+                .isTrue();
+        assertThat(spliterator.getComparator())
+                .isNull();
+        assertThat(iterable.parallelStream().asLongStream().sum())
+                .isEqualTo(Arrays.stream(items).distinct().asLongStream().sum());
+    }
+}
@@ -19,11 +19,14 @@ package com.plugatar.mjpi.impl;
 
 import com.plugatar.mjpi.IntIterable;
 import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -122,4 +125,103 @@ final class IntIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sortedIntIteratorMethodIterateOverItemsRange() {
+        final int[] items = {1, 3, 5, 7, 9, 11};
+        final SortedIntIterator iterator = new IntIterableOf(items, 1, 5).sortedIntIterator();
+        assertThat(iterator.advanceTo(6))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(7);
+        assertThat(iterator.next())
+                .isEqualTo(9);
+        assertThat(iterator.advanceTo(10))
+                .isFalse();
+    }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final IntIterable iterable = new IntIterableOf(1, 2, 3);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new IntIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final IntIterator iterator = new IntIterableOf(1, 2, 3).intIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void spliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfInt suffix = new IntIterableOf(1, 2, 3, 4, 5).spliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        final List<Integer> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1, 2);
+        final List<Integer> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((IntConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3, 4, 5);
+    }
+
+    @Test
+    void streamMethodsReturnStreamsOverItems() {
+        final IntIterable iterable = new IntIterableOf(1, 2, 3, 4, 5);
+        assertThat(iterable.stream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(iterable.parallelStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelStream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final int[] items = new int[2];
+        assertThatCode(() -> new IntIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final IntIterable iterable = new IntIterableOf(new int[]{1, 2, 3, 4, 5}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Integer> forEachItems = new ArrayList<>();
+        iterable.forEachInt(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(2, 3, 4);
+        final List<Integer> iteratorItems = new ArrayList<>();
+        iterable.intIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly(2, 3, 4);
+        assertThat(iterable.spliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
@@ -127,4 +127,31 @@ final class IntIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final IntIterator iterator = new IntIteratorOfIterator<>(Arrays.asList(1, 2, 3).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final IntIterator iterator = new IntIteratorOfIterator<>(Arrays.asList(1, 2, 3).iterator(), i -> i);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1);
+        assertThat(iterator.next())
+                .isEqualTo(2);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1, 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1, 3);
+    }
 }
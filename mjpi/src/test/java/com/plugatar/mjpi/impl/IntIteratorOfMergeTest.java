@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIteratorOfMerge}.
+ */
+final class IntIteratorOfMergeTest {
+
+    private static List<Integer> items(final IntIterator iterator) {
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new IntIteratorOfMerge((IntIterator[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIteratorOfMerge(new IntIteratorOf(1), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Iterators() {
+        final IntIterator iterator = new IntIteratorOfMerge();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mergeIterators() {
+        final IntIterator iterator = new IntIteratorOfMerge(
+                new IntIteratorOf(2, 5, 5, 9),
+                new IntIteratorOf(),
+                new IntIteratorOf(1, 5, 6)
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(7L);
+        assertThat(items(iterator))
+                .containsExactly(1, 2, 5, 5, 5, 6, 9);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void remainingMethodReturnsMinus1ForUnknownRemaining() {
+        final IntIterator unknown = new IntIteratorOfIterator<>(Arrays.asList(1, 2).iterator(), Integer::intValue);
+        final IntIterator iterator = new IntIteratorOfMerge(new IntIteratorOf(1), unknown);
+        assertThat(iterator.remaining())
+                .isEqualTo(-1L);
+        assertThat(items(iterator))
+                .containsExactly(1, 1, 2);
+    }
+
+    @Test
+    void mergeManyIterators() {
+        final Random random = new Random(25L);
+        for (int count = 1; count <= 33; ++count) {
+            final IntIterator[] iterators = new IntIterator[count];
+            final List<Integer> expected = new ArrayList<>();
+            for (int index = 0; index < count; ++index) {
+                final int[] items = random.ints(random.nextInt(30), 0, 50).sorted().toArray();
+                iterators[index] = new IntIteratorOf(items);
+                for (final int item : items) {
+                    expected.add(item);
+                }
+            }
+            expected.sort(null);
+            assertThat(items(new IntIteratorOfMerge(iterators)))
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -132,4 +133,31 @@ final class IntIteratorOfNativeIteratorTest {
         assertThat(removedItems)
                 .containsExactly(1, 5);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final IntIterator iterator = new IntIteratorOfNativeIterator(IntStream.of(1, 2, 3).iterator());
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final IntIterator iterator = new IntIteratorOfNativeIterator(IntStream.of(1, 2, 3).iterator());
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1);
+        assertThat(iterator.next())
+                .isEqualTo(2);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1, 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1, 3);
+    }
 }
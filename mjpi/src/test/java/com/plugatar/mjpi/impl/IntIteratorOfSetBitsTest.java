@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIteratorOfSetBits}.
+ */
+final class IntIteratorOfSetBitsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIteratorOfSetBits((long[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIteratorOfSetBits(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] words = new long[2];
+        assertThatCode(() -> new IntIteratorOfSetBits(words, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIteratorOfSetBits(words, 0, 129))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntIteratorOfSetBits(words, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final IntIterator empty = new IntIteratorOfSetBits();
+        final IntIterator emptyRange = new IntIteratorOfSetBits(new long[]{-1L}, 64, 64);
+        final IntIterator zeroWords = new IntIteratorOfSetBits(0L, 0L, 0L);
+        assertThat(empty.hasNext())
+                .isFalse();
+        assertThat(emptyRange.hasNext())
+                .isFalse();
+        assertThat(zeroWords.hasNext())
+                .isFalse();
+        assertThatCode(() -> zeroWords.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void nextMethodReturnsIndexesOfSetBits() {
+        final IntIterator iterator = new IntIteratorOfSetBits(0b1001L, 0L, 0L, 1L << 63 | 1L);
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(0, 3, 192, 255);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverRangeLikeBitSet() {
+        final BitSet bitSet = new BitSet(1000);
+        final Random random = new Random(1000L);
+        for (int index = 0; index < 1000; ++index) {
+            if (random.nextInt(20) == 0) {
+                bitSet.set(index);
+            }
+        }
+        final long[] words = bitSet.toLongArray();
+        final IntIterator iterator = new IntIteratorOfSetBits(words, 37, 901);
+        final List<Integer> items = new ArrayList<>();
+        items.add(iterator.next());
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        final List<Integer> expected = new ArrayList<>();
+        bitSet.get(37, 901).stream().forEach(index -> expected.add(index + 37));
+        assertThat(items)
+                .isEqualTo(expected);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+    }
+}
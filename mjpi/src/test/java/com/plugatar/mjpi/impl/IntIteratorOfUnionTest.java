@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.SortedIntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIteratorOfUnion}.
+ */
+final class IntIteratorOfUnionTest {
+
+    private static List<Integer> items(final IntIterator iterator) {
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    private static boolean contains(final int[] items, final int item) {
+        return Arrays.binarySearch(items, item) >= 0;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new IntIteratorOfUnion((IntIterator[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIteratorOfUnion(new SortedIntIteratorOf(1), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverSortedIterators() {
+        final SortedIntIterator iterator = new IntIteratorOfUnion(
+                new SortedIntIteratorOf(1, 3, 5),
+                new SortedIntIteratorOf(3, 4, 10),
+                new SortedIntIteratorOf(2, 3)
+        );
+        assertThat(items(iterator))
+                .containsExactly(1, 2, 3, 4, 5, 10);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverPlainIterators() {
+        final SortedIntIterator iterator = new IntIteratorOfUnion(
+                new IntIteratorOf(1, 3, 5),
+                new IntIteratorOf(3, 4, 10),
+                new IntIteratorOf(2, 3)
+        );
+        assertThat(items(iterator))
+                .containsExactly(1, 2, 3, 4, 5, 10);
+    }
+
+    @Test
+    void advanceToMethodSkipsItemsLessThanTarget() {
+        final SortedIntIterator iterator = new IntIteratorOfUnion(
+                new SortedIntIteratorOf(1, 3, 5),
+                new SortedIntIteratorOf(3, 4, 10),
+                new SortedIntIteratorOf(2, 3)
+        );
+        assertThat(iterator.advanceTo(4))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(4);
+        assertThat(iterator.advanceTo(0))
+                .isTrue();
+        assertThat(iterator.advanceTo(1000))
+                .isFalse();
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateLikeSets() {
+        final Random random = new Random(24L);
+        for (int attempt = 0; attempt < 20; ++attempt) {
+            final int[] first = random.ints(random.nextInt(50), 0, 500)
+                    .distinct().sorted().toArray();
+            final int[] second = random.ints(random.nextInt(2000), 0, 500)
+                    .distinct().sorted().toArray();
+            final List<Integer> expected = IntStream.concat(Arrays.stream(first), Arrays.stream(second))
+                    .distinct()
+                    .sorted()
+                    .boxed()
+                    .collect(Collectors.toList());
+            final SortedIntIterator sorted = new IntIteratorOfUnion(
+                    new SortedIntIteratorOf(first), new SortedIntIteratorOf(second)
+            );
+            final SortedIntIterator plain = new IntIteratorOfUnion(
+                    new IntIteratorOf(first), new IntIteratorOf(second)
+            );
+            assertThat(items(sorted))
+                    .isEqualTo(expected);
+            assertThat(items(plain))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void iterateOverManyIterators() {
+        final Random random = new Random(25L);
+        for (int attempt = 0; attempt < 20; ++attempt) {
+            final int[][] arrays = new int[1 + random.nextInt(9)][];
+            final IntIterator[] iterators = new IntIterator[arrays.length];
+            for (int index = 0; index < arrays.length; ++index) {
+                arrays[index] = random.ints(random.nextInt(100), 0, 300)
+                        .distinct().sorted().toArray();
+                iterators[index] = index % 2 == 0
+                        ? new SortedIntIteratorOf(arrays[index])
+                        : new IntIteratorOf(arrays[index]);
+            }
+            final int target = random.nextInt(300);
+            final List<Integer> expected = Arrays.stream(arrays)
+                    .flatMapToInt(Arrays::stream)
+                    .filter(item -> item >= target)
+                    .distinct()
+                    .sorted()
+                    .boxed()
+                    .collect(Collectors.toList());
+            final SortedIntIterator iterator = new IntIteratorOfUnion(iterators);
+            iterator.advanceTo(target);
+            assertThat(items(iterator))
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.IntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntIteratorOfVarints}.
+ */
+final class IntIteratorOfVarintsTest {
+
+    private static IntIterator decoder(final boolean zigzag, final byte... bytes) {
+        return new IntIteratorOfVarints(new ByteIteratorOf(bytes), zigzag);
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntIteratorOfVarints(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntIteratorOfVarints(null, true))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void nextMethodDecodesUnsignedVarints() {
+        final IntIterator iterator = decoder(false,
+                (byte) 0x00, (byte) 0x7F, (byte) 0x80, (byte) 0x01, (byte) 0xAC, (byte) 0x02,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x0F
+        );
+        final List<Integer> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(0, 127, 128, 300, -1);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodDecodesZigzagVarints() {
+        final IntIterator iterator = decoder(true,
+                (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0xAC, (byte) 0x02
+        );
+        final List<Integer> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(0, -1, 1, -2, 150);
+    }
+
+    @Test
+    void nextMethodThrowsISEForTruncatedVarint() {
+        final IntIterator iterator = decoder(false, (byte) 0x01, (byte) 0x80);
+        iterator.next();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void nextMethodThrowsISEForTooLongVarint() {
+        final byte[] bytes = new byte[5 + 1];
+        Arrays.fill(bytes, (byte) 0x80);
+        bytes[5] = 0x01;
+        final IntIterator iterator = decoder(false, bytes);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void decodeEncodedItems() {
+        final int[] items = {
+                0, 1, -1, 63, -64, 64, Integer.MIN_VALUE, Integer.MAX_VALUE, 123456789
+        };
+        for (final boolean zigzag : new boolean[]{false, true}) {
+            final ByteIterator encoder = new ByteIteratorOfIntVarints(
+                    new IntIteratorOf(items), zigzag
+            );
+            final List<Byte> bytes = new ArrayList<>();
+            encoder.forEachRemaining(bytes::add);
+            final byte[] array = new byte[bytes.size()];
+            for (int index = 0; index < array.length; ++index) {
+                array[index] = bytes.get(index);
+            }
+            final List<Integer> decoded = new ArrayList<>();
+            decoder(zigzag, array).forEachRemaining(decoded::add);
+            assertThat(decoded)
+                    .containsExactly(items[0], items[1], items[2], items[3], items[4],
+                            items[5], items[6], items[7], items[8]);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntSpliteratorOfCharArray}.
+ */
+final class IntSpliteratorOfCharArrayTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntSpliteratorOfCharArray((char[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntSpliteratorOfCharArray(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final char[] items = new char[2];
+        assertThatCode(() -> new IntSpliteratorOfCharArray(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntSpliteratorOfCharArray(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntSpliteratorOfCharArray(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final Spliterator.OfInt spliterator = new IntSpliteratorOfCharArray('1');
+        assertThatCode(() -> spliterator.tryAdvance((IntConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> spliterator.forEachRemaining((IntConsumer) null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void characteristicsMethodReturnsSizedCharacteristics() {
+        final Spliterator.OfInt spliterator = new IntSpliteratorOfCharArray('1');
+        assertThat(spliterator.characteristics())
+                .isEqualTo(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final Spliterator.OfInt spliterator = new IntSpliteratorOfCharArray(
+                new char[]{'1', '2', '3', '4', '5'}, 1, 4);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isTrue();
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2L);
+        spliterator.forEachRemaining((IntConsumer) items::add);
+        assertThat(items)
+                .containsExactly((int) '2', (int) '3', (int) '4');
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(0L);
+        assertThat(spliterator.tryAdvance((IntConsumer) items::add))
+                .isFalse();
+    }
+
+    @Test
+    void trySplitMethodSplitsInHalves() {
+        final Spliterator.OfInt suffix = new IntSpliteratorOfCharArray('1', '2', '3', '4', '5');
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2L);
+        assertThat(suffix.estimateSize())
+                .isEqualTo(3L);
+        final List<Integer> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly((int) '1', (int) '2');
+        final List<Integer> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((IntConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly((int) '3', (int) '4', (int) '5');
+        assertThat(suffix.trySplit())
+                .isNull();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.IntIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link IntStridedIterableOf}.
+ */
+final class IntStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new IntStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new IntStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final int[] items = new int[2];
+        assertThatCode(() -> new IntStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new IntStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new IntStridedIterableOf(new int[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final int[] items = new int[]{1, 2, 3, 4, 5, 6, 7};
+        assertThat(new IntStridedIterableOf(new int[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new IntStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new IntStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final IntIterable iterable = new IntStridedIterableOf(new int[]{1, 2, 3, 4, 5, 6, 7}, 1, 7, 2);
+        for (int i = 0; i < 2; ++i) {
+            final List<Integer> items = new ArrayList<>();
+            iterable.intIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2, 4, 6);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final IntIterable iterable = new IntStridedIterableOf(new int[]{1}, 1);
+        assertThatCode(() -> iterable.forEachInt(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final IntIterable iterable = new IntStridedIterableOf(new int[]{1, 2, 3, 4, 5, 6, 7}, -3);
+        final List<Integer> items = new ArrayList<>();
+        iterable.forEachInt(items::add);
+        assertThat(items)
+                .containsExactly(7, 4, 1);
+    }
+}
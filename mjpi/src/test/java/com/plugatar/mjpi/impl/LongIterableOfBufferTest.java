@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIterableOfBuffer}.
+ */
+final class LongIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongIterableOfBuffer((LongBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIterableOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIterableOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final LongBuffer buffer = LongBuffer.wrap(new long[]{1L, 2L, 3L, 4L, 5L});
+        buffer.position(1);
+        buffer.limit(4);
+        final LongIterable iterable = new LongIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Long> items = new ArrayList<>();
+            iterable.longIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2L, 3L, 4L);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final LongIterable iterable = new LongIterableOfBuffer(LongBuffer.wrap(new long[]{1L}));
+        assertThatCode(() -> iterable.forEachLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final LongBuffer buffer = LongBuffer.wrap(new long[]{1L, 2L, 3L, 4L});
+        buffer.position(1);
+        final List<Long> items = new ArrayList<>();
+        new LongIterableOfBuffer(buffer).forEachLong(items::add);
+        assertThat(items)
+                .containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 8 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putLong(1L).putLong(2L).put((byte) 0).position(0);
+        final List<Long> items = new ArrayList<>();
+        new LongIterableOfBuffer(bytes).forEachLong(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new LongIterableOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachLong(items::add);
+        assertThat(items)
+                .containsExactly(1L, 2L, 1L, 2L);
+    }
+}
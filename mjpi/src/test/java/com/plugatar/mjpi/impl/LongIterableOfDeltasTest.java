@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterable;
+import com.plugatar.mjpi.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIterableOfDeltas}.
+ */
+final class LongIterableOfDeltasTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongIterableOfDeltas((long[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] items = {1L, 2L};
+        assertThatCode(() -> new LongIterableOfDeltas(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidBlockSize() {
+        final long[] items = {1L, 2L};
+        assertThatCode(() -> new LongIterableOfDeltas(items, 0, 2, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(items, 0, 2, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForUnsortedItems() {
+        assertThatCode(() -> new LongIterableOfDeltas(1L, 3L, 2L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(new long[]{1L, 2L, 1L}, 0, 3, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new LongIterableOfDeltas(new long[]{5L, 1L, 2L}, 1, 3))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final LongIterable iterable = new LongIterableOfDeltas();
+        assertThat(iterable.size())
+                .isEqualTo(0L);
+        final LongIterator iterator = iterable.longIterator();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverItemsWithLargeDeltas() {
+        final LongIterable iterable = new LongIterableOfDeltas(new long[]{
+                Long.MIN_VALUE, -1L, 0L, 0L, 127L, 128L, 16511L, Long.MAX_VALUE
+        }, 0, 8, 3);
+        assertThat(iterable.size())
+                .isEqualTo(8L);
+        final LongIterator iterator = iterable.longIterator();
+        final List<Long> items = new ArrayList<>();
+        items.add(iterator.next());
+        assertThat(iterator.tryAdvance((LongConsumer) items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(Long.MIN_VALUE, -1L, 0L, 0L, 127L, 128L, 16511L, Long.MAX_VALUE);
+        assertThat(iterator.tryAdvance((LongConsumer) items::add))
+                .isFalse();
+    }
+
+    @Test
+    void iterateOverRange() {
+        final LongIterable iterable = new LongIterableOfDeltas(new long[]{9L, 1L, 2L, 4L, 0L}, 1, 4);
+        final List<Long> items = new ArrayList<>();
+        iterable.forEachLong(items::add);
+        assertThat(items)
+                .containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    void skipMethodSkipsItemsWithinAndAcrossBlocks() {
+        final long[] items = new long[20];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = index * 1000L;
+        }
+        final LongIterator iterator = new LongIterableOfDeltas(items, 0, 20, 4).longIterator();
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.next())
+                .isEqualTo(0L);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        assertThat(iterator.next())
+                .isEqualTo(2000L);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        assertThat(iterator.next())
+                .isEqualTo(4000L);
+        assertThat(iterator.skip(6L))
+                .isEqualTo(6L);
+        assertThat(iterator.next())
+                .isEqualTo(11000L);
+        assertThat(iterator.remaining())
+                .isEqualTo(8L);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(8L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void spliteratorSplitsOnBlockBoundaries() {
+        final long[] items = new long[4096];
+        for (int index = 0; index < items.length; ++index) {
+            items[index] = index;
+        }
+        final LongIterable iterable = new LongIterableOfDeltas(items, 0, 4096, 100);
+        final Spliterator.OfLong spliterator = iterable.spliterator();
+        assertThat(spliterator.hasCharacteristics(Spliterator.SORTED))
+                .isTrue();
+        final Spliterator.OfLong prefix = spliterator.trySplit();
+        assertThat(prefix)
+                .isNotNull();
+        assertThat(prefix.estimateSize())
+                .isEqualTo(2000L);
+        assertThat(spliterator.estimateSize())
+                .isEqualTo(2096L);
+        assertThat(spliterator.tryAdvance((LongConsumer) item -> assertThat(item).isEqualTo(2000L)))
+                .isTrue();
+        assertThat(spliterator.trySplit())
+                .isNull();
+        assertThat(iterable.parallelStream().sum())
+                .isEqualTo(4096L * 4095L / 2L);
+    }
+}
@@ -19,11 +19,14 @@ package com.plugatar.mjpi.impl;
 
 import com.plugatar.mjpi.LongIterable;
 import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -122,4 +125,103 @@ final class LongIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sortedLongIteratorMethodIterateOverItemsRange() {
+        final long[] items = {1L, 3L, 5L, 7L, 9L, 11L};
+        final SortedLongIterator iterator = new LongIterableOf(items, 1, 5).sortedLongIterator();
+        assertThat(iterator.advanceTo(6L))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(7L);
+        assertThat(iterator.next())
+                .isEqualTo(9L);
+        assertThat(iterator.advanceTo(10L))
+                .isFalse();
+    }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final LongIterable iterable = new LongIterableOf(1L, 2L, 3L);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new LongIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final LongIterator iterator = new LongIterableOf(1L, 2L, 3L).longIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void spliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfLong suffix = new LongIterableOf(1L, 2L, 3L, 4L, 5L).spliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfLong prefix = suffix.trySplit();
+        final List<Long> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((LongConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1L, 2L);
+        final List<Long> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((LongConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void streamMethodsReturnStreamsOverItems() {
+        final LongIterable iterable = new LongIterableOf(1L, 2L, 3L, 4L, 5L);
+        assertThat(iterable.stream().toArray())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(iterable.parallelStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelStream().toArray())
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final long[] items = new long[2];
+        assertThatCode(() -> new LongIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final LongIterable iterable = new LongIterableOf(new long[]{1L, 2L, 3L, 4L, 5L}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Long> forEachItems = new ArrayList<>();
+        iterable.forEachLong(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly(2L, 3L, 4L);
+        final List<Long> iteratorItems = new ArrayList<>();
+        iterable.longIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly(2L, 3L, 4L);
+        assertThat(iterable.spliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.SortedLongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIteratorOfDifference}.
+ */
+final class LongIteratorOfDifferenceTest {
+
+    private static List<Long> items(final LongIterator iterator) {
+        final List<Long> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    private static boolean contains(final long[] items, final long item) {
+        return Arrays.binarySearch(items, item) >= 0;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new LongIteratorOfDifference(null, new SortedLongIteratorOf(1L)))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIteratorOfDifference(new SortedLongIteratorOf(1L), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOverSortedIterators() {
+        final SortedLongIterator iterator = new LongIteratorOfDifference(
+                new SortedLongIteratorOf(1L, 3L, 5L, 7L, 9L),
+                new SortedLongIteratorOf(3L, 4L, 5L, 10L)
+        );
+        assertThat(items(iterator))
+                .containsExactly(1L, 7L, 9L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverPlainIterators() {
+        final SortedLongIterator iterator = new LongIteratorOfDifference(
+                new LongIteratorOf(1L, 3L, 5L, 7L, 9L),
+                new LongIteratorOf(3L, 4L, 5L, 10L)
+        );
+        assertThat(items(iterator))
+                .containsExactly(1L, 7L, 9L);
+    }
+
+    @Test
+    void advanceToMethodSkipsItemsLessThanTarget() {
+        final SortedLongIterator iterator = new LongIteratorOfDifference(
+                new SortedLongIteratorOf(1L, 3L, 5L, 7L, 9L),
+                new SortedLongIteratorOf(3L, 4L, 5L, 10L)
+        );
+        assertThat(iterator.advanceTo(2L))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(7L);
+        assertThat(iterator.advanceTo(0L))
+                .isTrue();
+        assertThat(iterator.advanceTo(1000L))
+                .isFalse();
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+
+    @Test
+    void iterateLikeSets() {
+        final Random random = new Random(24L);
+        for (int attempt = 0; attempt < 20; ++attempt) {
+            final long[] first = random.longs(random.nextInt(50), 0L, 500L)
+                    .distinct().sorted().toArray();
+            final long[] second = random.longs(random.nextInt(2000), 0L, 500L)
+                    .distinct().sorted().toArray();
+            final List<Long> expected = Arrays.stream(first)
+                    .filter(item -> !contains(second, item))
+                    .boxed()
+                    .collect(Collectors.toList());
+            final SortedLongIterator sorted = new LongIteratorOfDifference(
+                    new SortedLongIteratorOf(first), new SortedLongIteratorOf(second)
+            );
+            final SortedLongIterator plain = new LongIteratorOfDifference(
+                    new LongIteratorOf(first), new LongIteratorOf(second)
+            );
+            assertThat(items(sorted))
+                    .isEqualTo(expected);
+            assertThat(items(plain))
+                    .isEqualTo(expected);
+        }
+    }
+}
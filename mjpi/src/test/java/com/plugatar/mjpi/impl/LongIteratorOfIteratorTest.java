@@ -127,4 +127,31 @@ final class LongIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final LongIterator iterator = new LongIteratorOfIterator<>(Arrays.asList(1L, 2L, 3L).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final LongIterator iterator = new LongIteratorOfIterator<>(Arrays.asList(1L, 2L, 3L).iterator(), i -> i);
+        final List<Long> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1L);
+        assertThat(iterator.next())
+                .isEqualTo(2L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1L, 3L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1L, 3L);
+    }
 }
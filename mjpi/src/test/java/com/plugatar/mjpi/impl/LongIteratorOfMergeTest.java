@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIteratorOfMerge}.
+ */
+final class LongIteratorOfMergeTest {
+
+    private static List<Long> items(final LongIterator iterator) {
+        final List<Long> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        return items;
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new LongIteratorOfMerge((LongIterator[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIteratorOfMerge(new LongIteratorOf(1L), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateOver0Iterators() {
+        final LongIterator iterator = new LongIteratorOfMerge();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mergeIterators() {
+        final LongIterator iterator = new LongIteratorOfMerge(
+                new LongIteratorOf(2L, 5L, 5L, 9L),
+                new LongIteratorOf(),
+                new LongIteratorOf(1L, 5L, 6L)
+        );
+        assertThat(iterator.remaining())
+                .isEqualTo(7L);
+        assertThat(items(iterator))
+                .containsExactly(1L, 2L, 5L, 5L, 5L, 6L, 9L);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void remainingMethodReturnsMinus1ForUnknownRemaining() {
+        final LongIterator unknown = new LongIteratorOfIterator<>(Arrays.asList(1L, 2L).iterator(), Long::longValue);
+        final LongIterator iterator = new LongIteratorOfMerge(new LongIteratorOf(1L), unknown);
+        assertThat(iterator.remaining())
+                .isEqualTo(-1L);
+        assertThat(items(iterator))
+                .containsExactly(1L, 1L, 2L);
+    }
+
+    @Test
+    void mergeManyIterators() {
+        final Random random = new Random(25L);
+        for (int count = 1; count <= 33; ++count) {
+            final LongIterator[] iterators = new LongIterator[count];
+            final List<Long> expected = new ArrayList<>();
+            for (int index = 0; index < count; ++index) {
+                final long[] items = random.longs(random.nextInt(30), 0L, 50L).sorted().toArray();
+                iterators[index] = new LongIteratorOf(items);
+                for (final long item : items) {
+                    expected.add(item);
+                }
+            }
+            expected.sort(null);
+            assertThat(items(new LongIteratorOfMerge(iterators)))
+                    .isEqualTo(expected);
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -132,4 +133,31 @@ final class LongIteratorOfNativeIteratorTest {
         assertThat(removedItems)
                 .containsExactly(1L, 5L);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final LongIterator iterator = new LongIteratorOfNativeIterator(LongStream.of(1L, 2L, 3L).iterator());
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final LongIterator iterator = new LongIteratorOfNativeIterator(LongStream.of(1L, 2L, 3L).iterator());
+        final List<Long> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1L);
+        assertThat(iterator.next())
+                .isEqualTo(2L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly(1L, 3L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(1L, 3L);
+    }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.DoubleIterator;
+import com.plugatar.mjpi.FloatIterator;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIteratorOfByteIterator}, {@link LongIteratorOfShortIterator},
+ * {@link LongIteratorOfIntIterator}, {@link LongIteratorOfFloatIterator}, {@link LongIteratorOfDoubleIterator},
+ * {@link LongIteratorOfCharIterator}, {@link LongIteratorOfBooleanIterator}.
+ */
+final class LongIteratorOfPrimitiveIteratorsTest {
+
+    private static Stream<ConversionCase<?, LongIterator>> cases() {
+        return Stream.of(
+                new ConversionCase<ByteIterator, LongIterator>(
+                        LongIteratorOfByteIterator.class, ConversionCase::byteItem,
+                        ConversionCase::byteIterator, LongIteratorOfByteIterator::new,
+                        origin -> new LongIteratorOfByteIterator(origin, item -> item + 1),
+                        origin -> new LongIteratorOfByteIterator(origin, null)),
+                new ConversionCase<ShortIterator, LongIterator>(
+                        LongIteratorOfShortIterator.class, ConversionCase::shortItem,
+                        ConversionCase::shortIterator, LongIteratorOfShortIterator::new,
+                        origin -> new LongIteratorOfShortIterator(origin, item -> item + 1),
+                        origin -> new LongIteratorOfShortIterator(origin, null)),
+                new ConversionCase<IntIterator, LongIterator>(
+                        LongIteratorOfIntIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::intIterator, LongIteratorOfIntIterator::new,
+                        origin -> new LongIteratorOfIntIterator(origin, item -> item + 1),
+                        origin -> new LongIteratorOfIntIterator(origin, null)),
+                new ConversionCase<FloatIterator, LongIterator>(
+                        LongIteratorOfFloatIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::floatIterator, LongIteratorOfFloatIterator::new,
+                        origin -> new LongIteratorOfFloatIterator(origin, item -> (long) item + 1),
+                        origin -> new LongIteratorOfFloatIterator(origin, null)),
+                new ConversionCase<DoubleIterator, LongIterator>(
+                        LongIteratorOfDoubleIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::doubleIterator, LongIteratorOfDoubleIterator::new,
+                        origin -> new LongIteratorOfDoubleIterator(origin, item -> (long) item + 1),
+                        origin -> new LongIteratorOfDoubleIterator(origin, null)),
+                new ConversionCase<CharIterator, LongIterator>(
+                        LongIteratorOfCharIterator.class, ConversionCase::charItem,
+                        ConversionCase::charIterator, LongIteratorOfCharIterator::new,
+                        origin -> new LongIteratorOfCharIterator(origin, item -> item + 1),
+                        origin -> new LongIteratorOfCharIterator(origin, null)),
+                new ConversionCase<BooleanIterator, LongIterator>(
+                        LongIteratorOfBooleanIterator.class, ConversionCase::booleanItem,
+                        ConversionCase::booleanIterator, LongIteratorOfBooleanIterator::new)
+        );
+    }
+
+    private static long expected(final ConversionCase<?, LongIterator> conversion, final int item) {
+        return conversion.sourceItem(item);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> ctorThrowsNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            assertThatCode(conversion::ofNullOrigin)
+                    .isInstanceOf(NullPointerException.class);
+            if (conversion.hasConversionFunction()) {
+                assertThatCode(conversion::withConversionFunctionOfNullOrigin)
+                        .isInstanceOf(NullPointerException.class);
+                assertThatCode(conversion::withNullConversionFunction)
+                        .isInstanceOf(NullPointerException.class);
+            }
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> methodsThrowNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final LongIterator iterator = conversion.of();
+            assertThatCode(() -> iterator.next(null, 0, 0))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.tryAdvance(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.forEachRemaining(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateOverMultipleItems() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final LongIterator iterator = conversion.of(1, 0, 3, 4, 0);
+            assertThat(iterator.remaining())
+                    .isEqualTo(5L);
+            assertThat(iterator.hasNext())
+                    .isTrue();
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, 1));
+            assertThatCode(iterator::remove)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            final List<Long> items = new ArrayList<>();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isTrue();
+            assertThat(iterator.skip(1L))
+                    .isEqualTo(1L);
+            iterator.forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(expected(conversion, 0), expected(conversion, 4), expected(conversion, 0));
+            assertThat(iterator.hasNext())
+                    .isFalse();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isFalse();
+            assertThatCode(iterator::next)
+                    .isInstanceOf(NoSuchElementException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateWithConversionFunction() {
+        return ConversionCase.dynamicTests(cases().filter(ConversionCase::hasConversionFunction), conversion -> {
+            final List<Long> items = new ArrayList<>();
+            conversion.withConversionFunction(1, 2, 3).forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2L, 3L, 4L);
+        });
+    }
+
+    @Test
+    void unsignedByteConversionFunction() {
+        final LongIterator iterator = new LongIteratorOfByteIterator(
+                new ByteIteratorOf((byte) -1),
+                item -> item & 0xFFL
+        );
+        assertThat(iterator.next())
+                .isEqualTo(255L);
+    }
+
+    @Test
+    void unsignedIntConversionFunction() {
+        final LongIterator iterator = new LongIteratorOfIntIterator(
+                new IntIteratorOf(-1),
+                item -> item & 0xFFFFFFFFL
+        );
+        assertThat(iterator.next())
+                .isEqualTo(4294967295L);
+    }
+
+    @Test
+    void unsignedShortConversionFunction() {
+        final LongIterator iterator = new LongIteratorOfShortIterator(
+                new ShortIteratorOf((short) -1),
+                item -> item & 0xFFFFL
+        );
+        assertThat(iterator.next())
+                .isEqualTo(65535L);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> nextArrayMethodConvertsItemsInBatches() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final int[] source = new int[1000];
+            for (int index = 0; index < source.length; ++index) {
+                source[index] = index;
+            }
+            final LongIterator iterator = conversion.of(source);
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, source[0]));
+            final long[] array = new long[1001];
+            assertThat(iterator.next(array, 1, 1000))
+                    .isEqualTo(999);
+            for (int index = 1; index < source.length; ++index) {
+                assertThat(array[index])
+                        .isEqualTo(expected(conversion, source[index]));
+            }
+            assertThat(iterator.next(array, 0, 1))
+                    .isEqualTo(0);
+        });
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIteratorOfVarintBuffer}.
+ */
+final class LongIteratorOfVarintBufferTest {
+
+    private static LongIterator decoder(final boolean zigzag, final byte... bytes) {
+        return new LongIteratorOfVarintBuffer(ByteBuffer.wrap(bytes), zigzag);
+    }
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongIteratorOfVarintBuffer(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongIteratorOfVarintBuffer(null, true))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void decodeBetweenPositionAndLimit() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+        buffer.put((byte) 0x01).put((byte) 0xAC).put((byte) 0x02).put((byte) 0x05);
+        buffer.position(1);
+        buffer.limit(3);
+        final LongIterator iterator = new LongIteratorOfVarintBuffer(buffer);
+        assertThat(iterator.next())
+                .isEqualTo(300L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(buffer.position())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void nextMethodDecodesUnsignedVarints() {
+        final LongIterator iterator = decoder(false,
+                (byte) 0x00, (byte) 0x7F, (byte) 0x80, (byte) 0x01, (byte) 0xAC, (byte) 0x02,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x01
+        );
+        final List<Long> items = new ArrayList<>();
+        while (iterator.hasNext()) {
+            items.add(iterator.next());
+        }
+        assertThat(items)
+                .containsExactly(0L, 127L, 128L, 300L, -1L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void forEachRemainingMethodDecodesZigzagVarints() {
+        final LongIterator iterator = decoder(true,
+                (byte) 0x00, (byte) 0x01, (byte) 0x02, (byte) 0x03, (byte) 0xAC, (byte) 0x02
+        );
+        final List<Long> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(0L, -1L, 1L, -2L, 150L);
+    }
+
+    @Test
+    void nextMethodThrowsISEForTruncatedVarint() {
+        final LongIterator iterator = decoder(false, (byte) 0x01, (byte) 0x80);
+        iterator.next();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void nextMethodThrowsISEForTooLongVarint() {
+        final byte[] bytes = new byte[10 + 1];
+        Arrays.fill(bytes, (byte) 0x80);
+        bytes[10] = 0x01;
+        final LongIterator iterator = decoder(false, bytes);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void decodeEncodedItems() {
+        final long[] items = {
+                0L, 1L, -1L, 63L, -64L, 64L, Long.MIN_VALUE, Long.MAX_VALUE, 123456789L
+        };
+        for (final boolean zigzag : new boolean[]{false, true}) {
+            final ByteIterator encoder = new ByteIteratorOfLongVarints(
+                    new LongIteratorOf(items), zigzag
+            );
+            final List<Byte> bytes = new ArrayList<>();
+            encoder.forEachRemaining(bytes::add);
+            final byte[] array = new byte[bytes.size()];
+            for (int index = 0; index < array.length; ++index) {
+                array[index] = bytes.get(index);
+            }
+            final List<Long> decoded = new ArrayList<>();
+            decoder(zigzag, array).forEachRemaining(decoded::add);
+            assertThat(decoded)
+                    .containsExactly(items[0], items[1], items[2], items[3], items[4],
+                            items[5], items[6], items[7], items[8]);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongIteratorPipeline}.
+ */
+final class LongIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final LongIteratorPipeline pipeline = new LongIteratorPipeline(new LongIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final LongIteratorPipeline pipeline = new LongIteratorPipeline(new LongIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(1L);
+        final List<Long> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void filterMethod() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L, 4L, 5L))
+                .filter(item -> item > 2L);
+        assertThat(items(iterator))
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Long> peekedItems = new ArrayList<>();
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo(1L);
+        assertThat(peekedItems)
+                .containsExactly(1L);
+        assertThat(items(iterator))
+                .containsExactly(2L, 3L);
+        assertThat(peekedItems)
+                .containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void limitMethod() {
+        final LongIterator origin = new LongIteratorOf(1L, 2L, 3L, 4L);
+        final LongIterator iterator = new LongIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(1L, 2L);
+        assertThat(origin.next())
+                .isEqualTo(3L);
+        assertThat(items(new LongIteratorPipeline(new LongIteratorOf(1L)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Long> peekedItems = new ArrayList<>();
+        final LongIterator origin = new LongIteratorOf(1L, 2L, 3L);
+        final LongIterator iterator = new LongIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo(1L);
+        final LongIterator limited = new LongIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo(2L);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly(2L);
+        assertThat(origin.next())
+                .isEqualTo(3L);
+    }
+
+    @Test
+    void dropMethod() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L, 4L, 5L))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L, 1L))
+                .takeWhile(item -> item < 3L);
+        assertThat(items(iterator))
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final LongIterator iterator = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L, 1L))
+                .dropWhile(item -> item < 3L);
+        assertThat(items(iterator))
+                .containsExactly(3L, 1L);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Long> peekedItems = new ArrayList<>();
+        final LongIterator iterator = new LongIteratorPipeline(
+                new LongIteratorOf(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > 3L)
+                .filter(item -> item < 8L)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(5L, 6L);
+        assertThat(peekedItems)
+                .containsExactly(3L, 4L, 5L, 6L);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final LongIteratorPipeline pipeline = new LongIteratorPipeline(new LongIteratorOf(1L, 2L, 3L, 4L));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final LongIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly(2L, 3L);
+    }
+
+    private static List<Long> items(final LongIterator iterator) {
+        final List<Long> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.LongIterable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link LongStridedIterableOf}.
+ */
+final class LongStridedIterableOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new LongStridedIterableOf(null, 1))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new LongStridedIterableOf(null, 0, 0, 1))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] items = new long[2];
+        assertThatCode(() -> new LongStridedIterableOf(items, -1, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongStridedIterableOf(items, 0, 3, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new LongStridedIterableOf(items, 2, 1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForZeroStep() {
+        assertThatCode(() -> new LongStridedIterableOf(new long[2], 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sizeMethod() {
+        final long[] items = new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L};
+        assertThat(new LongStridedIterableOf(new long[0], 1).size())
+                .isEqualTo(0L);
+        assertThat(new LongStridedIterableOf(items, 2).size())
+                .isEqualTo(4L);
+        assertThat(new LongStridedIterableOf(items, 1, 7, -3).size())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void iteratorMethodIteratesMultipleTimes() {
+        final LongIterable iterable = new LongStridedIterableOf(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L}, 1, 7, 2);
+        for (int i = 0; i < 2; ++i) {
+            final List<Long> items = new ArrayList<>();
+            iterable.longIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(2L, 4L, 6L);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final LongIterable iterable = new LongStridedIterableOf(new long[]{1L}, 1);
+        assertThatCode(() -> iterable.forEachLong(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIteratesBackward() {
+        final LongIterable iterable = new LongStridedIterableOf(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L}, -3);
+        final List<Long> items = new ArrayList<>();
+        iterable.forEachLong(items::add);
+        assertThat(items)
+                .containsExactly(7L, 4L, 1L);
+    }
+}
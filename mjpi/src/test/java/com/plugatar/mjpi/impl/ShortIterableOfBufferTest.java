@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ShortIterable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIterableOfBuffer}.
+ */
+final class ShortIterableOfBufferTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ShortIterableOfBuffer((ShortBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfBuffer((ByteBuffer) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfBuffer((ByteBuffer) null, ByteOrder.BIG_ENDIAN))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfBuffer(ByteBuffer.allocate(0), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void iterateBetweenPositionAndLimitOfConstruction() {
+        final ShortBuffer buffer = ShortBuffer.wrap(new short[]{(short) 1, (short) 2, (short) 3, (short) 4, (short) 5});
+        buffer.position(1);
+        buffer.limit(4);
+        final ShortIterable iterable = new ShortIterableOfBuffer(buffer);
+        buffer.position(2);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        for (int i = 0; i < 2; ++i) {
+            final List<Short> items = new ArrayList<>();
+            iterable.shortIterator().forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly((short) 2, (short) 3, (short) 4);
+        }
+    }
+
+    @Test
+    void forEachMethodThrowsNPEForNullArg() {
+        final ShortIterable iterable = new ShortIterableOfBuffer(ShortBuffer.wrap(new short[]{(short) 1}));
+        assertThatCode(() -> iterable.forEachShort(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachMethodIterateBetweenPositionAndLimit() {
+        final ShortBuffer buffer = ShortBuffer.wrap(new short[]{(short) 1, (short) 2, (short) 3, (short) 4});
+        buffer.position(1);
+        final List<Short> items = new ArrayList<>();
+        new ShortIterableOfBuffer(buffer).forEachShort(items::add);
+        assertThat(items)
+                .containsExactly((short) 2, (short) 3, (short) 4);
+    }
+
+    @Test
+    void iterateOverBytesInByteOrder() {
+        final ByteBuffer bytes = ByteBuffer.allocateDirect(2 * 2 + 1).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putShort((short) 1).putShort((short) 2).put((byte) 0).position(0);
+        final List<Short> items = new ArrayList<>();
+        new ShortIterableOfBuffer(bytes).forEachShort(items::add);
+        bytes.order(ByteOrder.BIG_ENDIAN);
+        new ShortIterableOfBuffer(bytes, ByteOrder.LITTLE_ENDIAN).forEachShort(items::add);
+        assertThat(items)
+                .containsExactly((short) 1, (short) 2, (short) 1, (short) 2);
+    }
+}
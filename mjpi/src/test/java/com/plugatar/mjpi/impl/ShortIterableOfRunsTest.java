@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ShortIterable;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIterableOfRuns}.
+ */
+final class ShortIterableOfRunsTest {
+
+    @Test
+    void ctorThrowsNPEForNullArgs() {
+        assertThatCode(() -> new ShortIterableOfRuns((short[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(null, new int[0]))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(new short[0], null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final short[] items = {(short) 1, (short) 2};
+        assertThatCode(() -> new ShortIterableOfRuns(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void ctorThrowsIAEForInvalidRuns() {
+        final short[] values = {(short) 1, (short) 2};
+        assertThatCode(() -> new ShortIterableOfRuns(values, new int[]{1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(values, new int[]{1, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new ShortIterableOfRuns(values, new int[]{Integer.MAX_VALUE, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateOver0Items() {
+        final ShortIterable iterable = new ShortIterableOfRuns();
+        assertThat(iterable.size())
+                .isEqualTo(0L);
+        final ShortIterator iterator = iterable.shortIterator();
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void encodeItemsIntoRuns() {
+        final short[] items = {(short) 2, (short) 1, (short) 1, (short) 1, (short) 2, (short) 2, (short) 1};
+        final ShortIterableOfRuns iterable = new ShortIterableOfRuns(items, 1, 7);
+        assertThat(iterable.runs())
+                .isEqualTo(3);
+        assertThat(iterable.size())
+                .isEqualTo(6L);
+        final List<Short> forEachItems = new ArrayList<>();
+        iterable.forEachShort(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly((short) 1, (short) 1, (short) 1, (short) 2, (short) 2, (short) 1);
+        final List<Short> iteratorItems = new ArrayList<>();
+        final ShortIterator iterator = iterable.shortIterator();
+        while (iterator.hasNext()) {
+            iteratorItems.add(iterator.next());
+        }
+        assertThat(iteratorItems)
+                .containsExactly((short) 1, (short) 1, (short) 1, (short) 2, (short) 2, (short) 1);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterateOverGivenRuns() {
+        final ShortIterator iterator = new ShortIterableOfRuns(
+                new short[]{(short) 1, (short) 2, (short) 1}, new int[]{2, 3, 1}
+        ).shortIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(6L);
+        assertThat(iterator.next())
+                .isEqualTo((short) 1);
+        final List<Short> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly((short) 1, (short) 2, (short) 2, (short) 2, (short) 1);
+        assertThat(iterator.remaining())
+                .isEqualTo(0L);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+    }
+
+    @Test
+    void nextArrayMethodExpandsRuns() {
+        final ShortIterator iterator = new ShortIterableOfRuns(
+                new short[]{(short) 1, (short) 2, (short) 1}, new int[]{2, 3, 2}
+        ).shortIterator();
+        assertThat(iterator.next())
+                .isEqualTo((short) 1);
+        final short[] array = new short[7];
+        assertThat(iterator.next(array, 1, 4))
+                .isEqualTo(4);
+        assertThat(iterator.next(array, 5, 2))
+                .isEqualTo(2);
+        array[0] = (short) 1;
+        assertThat(array)
+                .containsExactly((short) 1, (short) 1, (short) 2, (short) 2, (short) 2, (short) 1, (short) 1);
+        assertThat(iterator.next(array, 0, 7))
+                .isEqualTo(0);
+        assertThatCode(() -> iterator.next(array, 6, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void skipMethodMovesOverRuns() {
+        final ShortIterator iterator = new ShortIterableOfRuns(
+                new short[]{(short) 1, (short) 2, (short) 1, (short) 2}, new int[]{2, 3, 1, 4}
+        ).shortIterator();
+        assertThat(iterator.skip(0L))
+                .isEqualTo(0L);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo((short) 2);
+        assertThat(iterator.skip(2L))
+                .isEqualTo(2L);
+        assertThat(iterator.next())
+                .isEqualTo((short) 1);
+        assertThat(iterator.skip(3L))
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo((short) 2);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(0L);
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
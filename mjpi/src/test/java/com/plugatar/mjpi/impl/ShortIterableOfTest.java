@@ -24,6 +24,8 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
@@ -124,4 +126,89 @@ final class ShortIterableOfTest {
         assertThat(secondForEachRemainingProcessedItems)
                 .isEmpty();
     }
+
+    @Test
+    void sizeMethodsReturnNumberOfItems() {
+        final ShortIterable iterable = new ShortIterableOf((short) 1, (short) 2, (short) 3);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        assertThat(iterable.isSizeKnown())
+                .isTrue();
+        assertThat(new ShortIterableOf().size())
+                .isEqualTo(0L);
+    }
+
+    @Test
+    void iteratorRemainingMethodReturnsNumberOfRemainingItems() {
+        final ShortIterator iterator = new ShortIterableOf((short) 1, (short) 2, (short) 3).shortIterator();
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        iterator.next();
+        assertThat(iterator.remaining())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    void intSpliteratorMethodReturnsSplittableSpliterator() {
+        final Spliterator.OfInt suffix = new ShortIterableOf((short) 1, (short) 2, (short) 3, (short) 4, (short) 5).intSpliterator();
+        assertThat(suffix.hasCharacteristics(
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE))
+                .isTrue();
+        assertThat(suffix.estimateSize())
+                .isEqualTo(5L);
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        final List<Integer> prefixItems = new ArrayList<>();
+        prefix.forEachRemaining((IntConsumer) prefixItems::add);
+        assertThat(prefixItems)
+                .containsExactly(1, 2);
+        final List<Integer> suffixItems = new ArrayList<>();
+        suffix.forEachRemaining((IntConsumer) suffixItems::add);
+        assertThat(suffixItems)
+                .containsExactly(3, 4, 5);
+    }
+
+    @Test
+    void intStreamMethodsReturnStreamsOverItems() {
+        final ShortIterable iterable = new ShortIterableOf((short) 1, (short) 2, (short) 3, (short) 4, (short) 5);
+        assertThat(iterable.intStream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+        assertThat(iterable.parallelIntStream().isParallel())
+                .isTrue();
+        assertThat(iterable.parallelIntStream().toArray())
+                .containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void rangeCtorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ShortIterableOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void rangeCtorThrowsIOOBEForInvalidRange() {
+        final short[] items = new short[2];
+        assertThatCode(() -> new ShortIterableOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ShortIterableOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new ShortIterableOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final ShortIterable iterable = new ShortIterableOf(new short[]{(short) 1, (short) 2, (short) 3, (short) 4, (short) 5}, 1, 4);
+        assertThat(iterable.size())
+                .isEqualTo(3L);
+        final List<Short> forEachItems = new ArrayList<>();
+        iterable.forEachShort(forEachItems::add);
+        assertThat(forEachItems)
+                .containsExactly((short) 2, (short) 3, (short) 4);
+        final List<Short> iteratorItems = new ArrayList<>();
+        iterable.shortIterator().forEachRemaining(iteratorItems::add);
+        assertThat(iteratorItems)
+                .containsExactly((short) 2, (short) 3, (short) 4);
+        assertThat(iterable.intSpliterator().estimateSize())
+                .isEqualTo(3L);
+    }
 }
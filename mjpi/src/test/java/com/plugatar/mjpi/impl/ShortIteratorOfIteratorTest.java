@@ -127,4 +127,31 @@ final class ShortIteratorOfIteratorTest {
         assertThatCode(() -> iterator.next())
                 .isInstanceOf(NoSuchElementException.class);
     }
+
+    @Test
+    void tryAdvanceMethodThrowsNPEForNullArg() {
+        final ShortIterator iterator = new ShortIteratorOfIterator<>(Arrays.asList((short) 1, (short) 2, (short) 3).iterator(), i -> i);
+        assertThatCode(() -> iterator.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void tryAdvanceMethodIterateOverMultipleItems() {
+        final ShortIterator iterator = new ShortIteratorOfIterator<>(Arrays.asList((short) 1, (short) 2, (short) 3).iterator(), i -> i);
+        final List<Short> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((short) 1);
+        assertThat(iterator.next())
+                .isEqualTo((short) 2);
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(items)
+                .containsExactly((short) 1, (short) 3);
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly((short) 1, (short) 3);
+    }
 }
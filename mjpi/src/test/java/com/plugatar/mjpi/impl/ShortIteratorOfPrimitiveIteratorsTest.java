@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.BooleanIterator;
+import com.plugatar.mjpi.ByteIterator;
+import com.plugatar.mjpi.CharIterator;
+import com.plugatar.mjpi.DoubleIterator;
+import com.plugatar.mjpi.FloatIterator;
+import com.plugatar.mjpi.IntIterator;
+import com.plugatar.mjpi.LongIterator;
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIteratorOfByteIterator}, {@link ShortIteratorOfIntIterator},
+ * {@link ShortIteratorOfLongIterator}, {@link ShortIteratorOfFloatIterator}, {@link ShortIteratorOfDoubleIterator},
+ * {@link ShortIteratorOfCharIterator}, {@link ShortIteratorOfBooleanIterator}.
+ */
+final class ShortIteratorOfPrimitiveIteratorsTest {
+
+    private static Stream<ConversionCase<?, ShortIterator>> cases() {
+        return Stream.of(
+                new ConversionCase<ByteIterator, ShortIterator>(
+                        ShortIteratorOfByteIterator.class, ConversionCase::byteItem,
+                        ConversionCase::byteIterator, ShortIteratorOfByteIterator::new,
+                        origin -> new ShortIteratorOfByteIterator(origin, item -> item + 1),
+                        origin -> new ShortIteratorOfByteIterator(origin, null)),
+                new ConversionCase<IntIterator, ShortIterator>(
+                        ShortIteratorOfIntIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::intIterator, ShortIteratorOfIntIterator::new,
+                        origin -> new ShortIteratorOfIntIterator(origin, item -> item + 1),
+                        origin -> new ShortIteratorOfIntIterator(origin, null)),
+                new ConversionCase<LongIterator, ShortIterator>(
+                        ShortIteratorOfLongIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::longIterator, ShortIteratorOfLongIterator::new,
+                        origin -> new ShortIteratorOfLongIterator(origin, item -> (int) item + 1),
+                        origin -> new ShortIteratorOfLongIterator(origin, null)),
+                new ConversionCase<FloatIterator, ShortIterator>(
+                        ShortIteratorOfFloatIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::floatIterator, ShortIteratorOfFloatIterator::new,
+                        origin -> new ShortIteratorOfFloatIterator(origin, item -> (int) item + 1),
+                        origin -> new ShortIteratorOfFloatIterator(origin, null)),
+                new ConversionCase<DoubleIterator, ShortIterator>(
+                        ShortIteratorOfDoubleIterator.class, IntUnaryOperator.identity(),
+                        ConversionCase::doubleIterator, ShortIteratorOfDoubleIterator::new,
+                        origin -> new ShortIteratorOfDoubleIterator(origin, item -> (int) item + 1),
+                        origin -> new ShortIteratorOfDoubleIterator(origin, null)),
+                new ConversionCase<CharIterator, ShortIterator>(
+                        ShortIteratorOfCharIterator.class, ConversionCase::charItem,
+                        ConversionCase::charIterator, ShortIteratorOfCharIterator::new,
+                        origin -> new ShortIteratorOfCharIterator(origin, item -> item + 1),
+                        origin -> new ShortIteratorOfCharIterator(origin, null)),
+                new ConversionCase<BooleanIterator, ShortIterator>(
+                        ShortIteratorOfBooleanIterator.class, ConversionCase::booleanItem,
+                        ConversionCase::booleanIterator, ShortIteratorOfBooleanIterator::new)
+        );
+    }
+
+    private static short expected(final ConversionCase<?, ShortIterator> conversion, final int item) {
+        return (short) conversion.sourceItem(item);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> ctorThrowsNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            assertThatCode(conversion::ofNullOrigin)
+                    .isInstanceOf(NullPointerException.class);
+            if (conversion.hasConversionFunction()) {
+                assertThatCode(conversion::withConversionFunctionOfNullOrigin)
+                        .isInstanceOf(NullPointerException.class);
+                assertThatCode(conversion::withNullConversionFunction)
+                        .isInstanceOf(NullPointerException.class);
+            }
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> methodsThrowNPEForNullArg() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final ShortIterator iterator = conversion.of();
+            assertThatCode(() -> iterator.next(null, 0, 0))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.tryAdvance(null))
+                    .isInstanceOf(NullPointerException.class);
+            assertThatCode(() -> iterator.forEachRemaining(null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateOverMultipleItems() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final ShortIterator iterator = conversion.of(1, 0, 3, 4, 0);
+            assertThat(iterator.remaining())
+                    .isEqualTo(5L);
+            assertThat(iterator.hasNext())
+                    .isTrue();
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, 1));
+            assertThatCode(iterator::remove)
+                    .isInstanceOf(UnsupportedOperationException.class);
+            final List<Short> items = new ArrayList<>();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isTrue();
+            assertThat(iterator.skip(1L))
+                    .isEqualTo(1L);
+            iterator.forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly(expected(conversion, 0), expected(conversion, 4), expected(conversion, 0));
+            assertThat(iterator.hasNext())
+                    .isFalse();
+            assertThat(iterator.tryAdvance(items::add))
+                    .isFalse();
+            assertThatCode(iterator::next)
+                    .isInstanceOf(NoSuchElementException.class);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> iterateWithConversionFunction() {
+        return ConversionCase.dynamicTests(cases().filter(ConversionCase::hasConversionFunction), conversion -> {
+            final List<Short> items = new ArrayList<>();
+            conversion.withConversionFunction(1, 2, 3).forEachRemaining(items::add);
+            assertThat(items)
+                    .containsExactly((short) 2, (short) 3, (short) 4);
+        });
+    }
+
+    @TestFactory
+    Stream<DynamicTest> nextArrayMethodConvertsItemsInBatches() {
+        return ConversionCase.dynamicTests(cases(), conversion -> {
+            final int[] source = new int[1000];
+            for (int index = 0; index < source.length; ++index) {
+                source[index] = index;
+            }
+            final ShortIterator iterator = conversion.of(source);
+            assertThat(iterator.next())
+                    .isEqualTo(expected(conversion, source[0]));
+            final short[] array = new short[1001];
+            assertThat(iterator.next(array, 1, 1000))
+                    .isEqualTo(999);
+            for (int index = 1; index < source.length; ++index) {
+                assertThat(array[index])
+                        .isEqualTo(expected(conversion, source[index]));
+            }
+            assertThat(iterator.next(array, 0, 1))
+                    .isEqualTo(0);
+        });
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.ShortIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link ShortIteratorPipeline}.
+ */
+final class ShortIteratorPipelineTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new ShortIteratorPipeline(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowNPEForNullArg() {
+        final ShortIteratorPipeline pipeline = new ShortIteratorPipeline(new ShortIteratorOf());
+        assertThatCode(() -> pipeline.map(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.filter(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.peek(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.takeWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.dropWhile(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.tryAdvance(null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> pipeline.forEachRemaining(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void methodsThrowIAEForNegativeArg() {
+        final ShortIteratorPipeline pipeline = new ShortIteratorPipeline(new ShortIteratorOf());
+        assertThatCode(() -> pipeline.limit(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> pipeline.drop(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void iterateWithoutOperations() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2));
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.hasNext())
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo((short) 1);
+        final List<Short> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        assertThat(iterator.tryAdvance(items::add))
+                .isFalse();
+        assertThat(items)
+                .containsExactly((short) 2);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void mapMethod() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3))
+                .map(item -> item + 1);
+        assertThat(items(iterator))
+                .containsExactly((short) 2, (short) 3, (short) 4);
+    }
+
+    @Test
+    void filterMethod() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 4, (short) 5))
+                .filter(item -> item > (short) 2);
+        assertThat(items(iterator))
+                .containsExactly((short) 3, (short) 4, (short) 5);
+    }
+
+    @Test
+    void peekMethod() {
+        final List<Short> peekedItems = new ArrayList<>();
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3))
+                .peek(peekedItems::add);
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(iterator.next())
+                .isEqualTo((short) 1);
+        assertThat(peekedItems)
+                .containsExactly((short) 1);
+        assertThat(items(iterator))
+                .containsExactly((short) 2, (short) 3);
+        assertThat(peekedItems)
+                .containsExactly((short) 1, (short) 2, (short) 3);
+    }
+
+    @Test
+    void limitMethod() {
+        final ShortIterator origin = new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 4);
+        final ShortIterator iterator = new ShortIteratorPipeline(origin)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((short) 1, (short) 2);
+        assertThat(origin.next())
+                .isEqualTo((short) 3);
+        assertThat(items(new ShortIteratorPipeline(new ShortIteratorOf((short) 1)).limit(0L)))
+                .isEmpty();
+    }
+
+    @Test
+    void limitMethodDoesNotPullItemsAfterLimitReached() {
+        final List<Short> peekedItems = new ArrayList<>();
+        final ShortIterator origin = new ShortIteratorOf((short) 1, (short) 2, (short) 3);
+        final ShortIterator iterator = new ShortIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(0L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .isEmpty();
+        assertThat(origin.next())
+                .isEqualTo((short) 1);
+        final ShortIterator limited = new ShortIteratorPipeline(origin)
+                .peek(peekedItems::add)
+                .limit(1L);
+        assertThat(limited.next())
+                .isEqualTo((short) 2);
+        assertThat(limited.hasNext())
+                .isFalse();
+        assertThat(peekedItems)
+                .containsExactly((short) 2);
+        assertThat(origin.next())
+                .isEqualTo((short) 3);
+    }
+
+    @Test
+    void dropMethod() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 4, (short) 5))
+                .drop(2L);
+        assertThat(items(iterator))
+                .containsExactly((short) 3, (short) 4, (short) 5);
+    }
+
+    @Test
+    void takeWhileMethod() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 1))
+                .takeWhile(item -> item < (short) 3);
+        assertThat(items(iterator))
+                .containsExactly((short) 1, (short) 2);
+    }
+
+    @Test
+    void dropWhileMethod() {
+        final ShortIterator iterator = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 1))
+                .dropWhile(item -> item < (short) 3);
+        assertThat(items(iterator))
+                .containsExactly((short) 3, (short) 1);
+    }
+
+    @Test
+    void fusedOperations() {
+        final List<Short> peekedItems = new ArrayList<>();
+        final ShortIterator iterator = new ShortIteratorPipeline(
+                new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 4, (short) 5, (short) 6, (short) 7, (short) 8))
+                .map(item -> item + 1)
+                .map(item -> item + 1)
+                .peek(peekedItems::add)
+                .filter(item -> item > (short) 3)
+                .filter(item -> item < (short) 8)
+                .drop(1L)
+                .limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((short) 5, (short) 6);
+        assertThat(peekedItems)
+                .containsExactly((short) 3, (short) 4, (short) 5, (short) 6);
+    }
+
+    @Test
+    void operationAfterIterationStart() {
+        final ShortIteratorPipeline pipeline = new ShortIteratorPipeline(new ShortIteratorOf((short) 1, (short) 2, (short) 3, (short) 4));
+        assertThat(pipeline.hasNext())
+                .isTrue();
+        final ShortIterator iterator = pipeline.drop(1L).limit(2L);
+        assertThat(items(iterator))
+                .containsExactly((short) 2, (short) 3);
+    }
+
+    private static List<Short> items(final ShortIterator iterator) {
+        final List<Short> items = new ArrayList<>();
+        iterator.forEachRemaining(items::add);
+        return items;
+    }
+}
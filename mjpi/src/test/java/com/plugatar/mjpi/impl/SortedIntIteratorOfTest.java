@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.SortedIntIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link SortedIntIteratorOf}.
+ */
+final class SortedIntIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new SortedIntIteratorOf((int[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new SortedIntIteratorOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final int[] items = {1, 2};
+        assertThatCode(() -> new SortedIntIteratorOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new SortedIntIteratorOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new SortedIntIteratorOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final SortedIntIteratorOf iterator = new SortedIntIteratorOf(new int[]{1, 3, 5, 7}, 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(3);
+        final List<Integer> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(5, 7);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void nextArrayAndSkipMethods() {
+        final SortedIntIteratorOf iterator = new SortedIntIteratorOf(1, 2, 3, 4, 5);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        final int[] array = new int[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(0, 2, 3);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advanceToMethodFindsFirstItemGreaterThanOrEqualToTarget() {
+        final Random random = new Random(24L);
+        final int[] items = random.ints(5000, 0, 1_000_000).distinct().sorted().toArray();
+        for (int attempt = 0; attempt < 50; ++attempt) {
+            final SortedIntIterator iterator = new SortedIntIteratorOf(items);
+            int index = 0;
+            int target = -1;
+            while (true) {
+                target += random.nextInt(attempt % 2 == 0 ? 100 : 100_000);
+                while (index < items.length && items[index] < target) {
+                    ++index;
+                }
+                assertThat(iterator.advanceTo(target))
+                        .isEqualTo(index < items.length);
+                if (index == items.length) {
+                    break;
+                }
+                assertThat(iterator.next())
+                        .isEqualTo(items[index++]);
+            }
+        }
+    }
+
+    @Test
+    void advanceToMethodDoesNotMoveBackward() {
+        final SortedIntIterator iterator = new SortedIntIteratorOf(1, 5, 9);
+        assertThat(iterator.advanceTo(5))
+                .isTrue();
+        assertThat(iterator.advanceTo(0))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(5);
+        assertThat(iterator.advanceTo(10))
+                .isFalse();
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
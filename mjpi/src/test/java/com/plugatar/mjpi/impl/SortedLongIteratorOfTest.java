@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Evgenii Plugatar
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.plugatar.mjpi.impl;
+
+import com.plugatar.mjpi.SortedLongIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Test case for {@link SortedLongIteratorOf}.
+ */
+final class SortedLongIteratorOfTest {
+
+    @Test
+    void ctorThrowsNPEForNullArg() {
+        assertThatCode(() -> new SortedLongIteratorOf((long[]) null))
+                .isInstanceOf(NullPointerException.class);
+        assertThatCode(() -> new SortedLongIteratorOf(null, 0, 0))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void ctorThrowsIOOBEForInvalidRange() {
+        final long[] items = {1L, 2L};
+        assertThatCode(() -> new SortedLongIteratorOf(items, -1, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new SortedLongIteratorOf(items, 0, 3))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatCode(() -> new SortedLongIteratorOf(items, 2, 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void iterateOverRange() {
+        final SortedLongIteratorOf iterator = new SortedLongIteratorOf(new long[]{1L, 3L, 5L, 7L}, 1, 4);
+        assertThat(iterator.remaining())
+                .isEqualTo(3L);
+        assertThat(iterator.next())
+                .isEqualTo(3L);
+        final List<Long> items = new ArrayList<>();
+        assertThat(iterator.tryAdvance(items::add))
+                .isTrue();
+        iterator.forEachRemaining(items::add);
+        assertThat(items)
+                .containsExactly(5L, 7L);
+        assertThatCode(() -> iterator.next())
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void nextArrayAndSkipMethods() {
+        final SortedLongIteratorOf iterator = new SortedLongIteratorOf(1L, 2L, 3L, 4L, 5L);
+        assertThat(iterator.skip(1L))
+                .isEqualTo(1L);
+        final long[] array = new long[3];
+        assertThat(iterator.next(array, 1, 2))
+                .isEqualTo(2);
+        assertThat(array)
+                .containsExactly(0L, 2L, 3L);
+        assertThat(iterator.skip(Long.MAX_VALUE))
+                .isEqualTo(2L);
+        assertThat(iterator.hasNext())
+                .isFalse();
+        assertThatCode(() -> iterator.skip(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advanceToMethodFindsFirstItemGreaterThanOrEqualToTarget() {
+        final Random random = new Random(24L);
+        final long[] items = random.longs(5000, 0L, 1_000_000L).distinct().sorted().toArray();
+        for (int attempt = 0; attempt < 50; ++attempt) {
+            final SortedLongIterator iterator = new SortedLongIteratorOf(items);
+            int index = 0;
+            long target = -1L;
+            while (true) {
+                target += random.nextInt(attempt % 2 == 0 ? 100 : 100_000);
+                while (index < items.length && items[index] < target) {
+                    ++index;
+                }
+                assertThat(iterator.advanceTo(target))
+                        .isEqualTo(index < items.length);
+                if (index == items.length) {
+                    break;
+                }
+                assertThat(iterator.next())
+                        .isEqualTo(items[index++]);
+            }
+        }
+    }
+
+    @Test
+    void advanceToMethodDoesNotMoveBackward() {
+        final SortedLongIterator iterator = new SortedLongIteratorOf(1L, 5L, 9L);
+        assertThat(iterator.advanceTo(5L))
+                .isTrue();
+        assertThat(iterator.advanceTo(0L))
+                .isTrue();
+        assertThat(iterator.next())
+                .isEqualTo(5L);
+        assertThat(iterator.advanceTo(10L))
+                .isFalse();
+        assertThat(iterator.hasNext())
+                .isFalse();
+    }
+}
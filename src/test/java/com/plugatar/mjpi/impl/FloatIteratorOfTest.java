@@ -1,98 +0,0 @@
-/*
- * Copyright (c) 2021 Evgenii Plugatar
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * See the NOTICE file distributed with this work for additional
- * information regarding copyright ownership.
- * You may obtain a copy of the License at
- *
- *     http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package com.plugatar.mjpi.impl;
-
-import com.plugatar.mjpi.FloatIterator;
-import org.junit.jupiter.api.Test;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.NoSuchElementException;
-
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatCode;
-
-/**
- * Test case for {@link FloatIteratorOf}.
- */
-final class FloatIteratorOfTest {
-
-    @Test
-    void ctorThrowsNPEForNullArg() {
-        assertThatCode(() -> new FloatIteratorOf((float[]) null))
-                .isInstanceOf(NullPointerException.class);
-    }
-
-    @Test
-    void forEachRemainingMethodThrowsNPEForNullArg() {
-        final FloatIterator iterator = new FloatIteratorOf();
-        assertThatCode(() -> iterator.forEachRemaining(null))
-                .isInstanceOf(NullPointerException.class);
-    }
-
-    @Test
-    void iterateOver0Items() {
-        final FloatIterator iterator = new FloatIteratorOf();
-        assertThat(iterator.hasNext())
-                .isFalse();
-        assertThatCode(() -> iterator.remove())
-                .isInstanceOf(UnsupportedOperationException.class);
-        assertThatCode(() -> iterator.next())
-                .isInstanceOf(NoSuchElementException.class);
-        final List<Float> forEachRemainingProcessedItems = new ArrayList<>();
-        iterator.forEachRemaining(forEachRemainingProcessedItems::add);
-        assertThat(forEachRemainingProcessedItems)
-                .isEmpty();
-    }
-
-    @Test
-    void iterateOverMultipleItems() {
-        final FloatIterator iterator = new FloatIteratorOf(1.0f, 2.0f, 3.0f, 4.0f, 5.0f);
-
-        assertThat(iterator.hasNext())
-                .isTrue();
-        assertThatCode(() -> iterator.remove())
-                .isInstanceOf(UnsupportedOperationException.class);
-        assertThat(iterator.next())
-                .isEqualTo(1);
-
-        assertThat(iterator.hasNext())
-                .isTrue();
-        assertThatCode(() -> iterator.remove())
-                .isInstanceOf(UnsupportedOperationException.class);
-        assertThat(iterator.next())
-                .isEqualTo(2);
-
-        final List<Float> firstForEachRemainingProcessedItems = new ArrayList<>();
-        iterator.forEachRemaining(firstForEachRemainingProcessedItems::add);
-        assertThat(firstForEachRemainingProcessedItems)
-                .containsExactly(3.0f, 4.0f, 5.0f);
-
-        assertThat(iterator.hasNext())
-                .isFalse();
-        assertThatCode(() -> iterator.remove())
-                .isInstanceOf(UnsupportedOperationException.class);
-        assertThatCode(() -> iterator.next())
-                .isInstanceOf(NoSuchElementException.class);
-
-        final List<Float> secondForEachRemainingProcessedItems = new ArrayList<>();
-        iterator.forEachRemaining(secondForEachRemainingProcessedItems::add);
-        assertThat(secondForEachRemainingProcessedItems)
-                .isEmpty();
-    }
-}